@@ -0,0 +1,43 @@
+package com.serhat.expenseTracker.component;
+
+import com.serhat.expenseTracker.service.currency.ExchangeRateHistory;
+import com.serhat.expenseTracker.service.currency.ExchangeRateTable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Loads historical daily exchange rates when the application is started with
+ * {@code --backfill-rates=<location>}, e.g. {@code --backfill-rates=file:/data/rates.csv}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExchangeRateBackfiller implements ApplicationRunner {
+    private static final String BACKFILL_OPTION = "backfill-rates";
+
+    private final ExchangeRateHistory exchangeRateHistory;
+    private final ExchangeRateTable exchangeRateTable;
+    private final ResourceLoader resourceLoader;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(BACKFILL_OPTION)) {
+            return;
+        }
+        List<String> locations = args.getOptionValues(BACKFILL_OPTION);
+        if (locations.isEmpty()) {
+            log.error("--{} needs the location of a rates file", BACKFILL_OPTION);
+            return;
+        }
+        for (String location : locations) {
+            exchangeRateHistory.backfill(resourceLoader.getResource(location));
+        }
+        exchangeRateTable.reloadHistory();
+    }
+}
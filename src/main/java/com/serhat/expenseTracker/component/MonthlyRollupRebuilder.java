@@ -0,0 +1,43 @@
+package com.serhat.expenseTracker.component;
+
+import com.serhat.expenseTracker.service.transaction.rollup.MonthlyRollupService;
+import com.serhat.expenseTracker.service.transaction.rollup.RollupRebuildResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Regenerates or verifies the monthly rollups when the application is started with
+ * {@code --rebuild-rollups} or {@code --verify-rollups}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MonthlyRollupRebuilder implements ApplicationRunner {
+    private static final String REBUILD_OPTION = "rebuild-rollups";
+    private static final String VERIFY_OPTION = "verify-rollups";
+
+    private final MonthlyRollupService monthlyRollupService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption(REBUILD_OPTION)) {
+            log.info("Rebuilding monthly rollups from the transaction table...");
+            report(monthlyRollupService.rebuild());
+        } else if (args.containsOption(VERIFY_OPTION)) {
+            log.info("Verifying monthly rollups against the transaction table...");
+            report(monthlyRollupService.verify());
+        }
+    }
+
+    private void report(RollupRebuildResult result) {
+        if (result.consistent()) {
+            log.info("Monthly rollups are consistent: {} rows", result.rollupRows());
+        } else {
+            log.error("Monthly rollups drifted: {} of {} rows disagree with the transaction table",
+                    result.mismatchedRows(), result.rollupRows());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.serhat.expenseTracker.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * HTTP client of the exchange rate API: one shared JDK {@link HttpClient}, which keeps its connections
+ * alive and reuses them, with strict connect and read timeouts. Requests are observed by the
+ * {@code http.client.requests} metrics through {@link RestTemplateBuilder}.
+ */
+@Configuration
+public class ExchangeRateClientConfig {
+
+    @Bean
+    public RestTemplate exchangeRateRestTemplate(RestTemplateBuilder builder,
+                                                 @Value("${exchangeratesapi.client.connect-timeout:PT2S}") Duration connectTimeout,
+                                                 @Value("${exchangeratesapi.client.read-timeout:PT5S}") Duration readTimeout) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        return builder.requestFactory(() -> requestFactory).build();
+    }
+}
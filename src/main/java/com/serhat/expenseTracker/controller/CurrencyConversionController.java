@@ -1,11 +1,22 @@
 package com.serhat.expenseTracker.controller;
 
+import com.serhat.expenseTracker.dto.requests.BatchConversionRequest;
+import com.serhat.expenseTracker.dto.responses.BatchConversionResponse;
 import com.serhat.expenseTracker.service.currency.CurrencyConversionService;
+import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
+import java.time.LocalDate;
+
 @RestController
 @RequestMapping("/api/currency")
 public class CurrencyConversionController {
@@ -17,7 +28,27 @@ public class CurrencyConversionController {
     }
 
     @GetMapping("/convert")
-    public double convertCurrency(@RequestParam String from, @RequestParam String to, @RequestParam double amount) {
-        return conversionService.convertCurrency(from, to, amount);
+    public ResponseEntity<Double> convertCurrency(
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam double amount,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+        if (date != null && date.isBefore(LocalDate.now())) {
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.maxAge(Duration.ofDays(1)).cachePrivate())
+                    .body(conversionService.convertCurrency(from, to, amount, date));
+        }
+        double converted = conversionService.convertCurrency(from, to, amount);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(conversionService.rateFreshness())
+                        .cachePrivate()
+                        .staleWhileRevalidate(conversionService.rateTtl()))
+                .body(converted);
+    }
+
+    @PostMapping("/convert/batch")
+    public ResponseEntity<BatchConversionResponse> convertBatch(@Valid @RequestBody BatchConversionRequest request) {
+        return ResponseEntity.ok(conversionService.convertBatch(request.conversions()));
     }
 }
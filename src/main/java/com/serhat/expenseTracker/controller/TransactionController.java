@@ -1,20 +1,34 @@
 package com.serhat.expenseTracker.controller;
 
+import com.serhat.expenseTracker.dto.objects.RecurringSeriesDto;
 import com.serhat.expenseTracker.dto.objects.SummaryDto;
 import com.serhat.expenseTracker.dto.objects.TransactionDto;
+import com.serhat.expenseTracker.dto.objects.TrendBucketDto;
 import com.serhat.expenseTracker.dto.requests.RecurringTransactionRequest;
 import com.serhat.expenseTracker.dto.requests.RecurringTransactionUpdateRequest;
 import com.serhat.expenseTracker.dto.requests.TransactionRequest;
 import com.serhat.expenseTracker.dto.requests.UpdateTransactionRequest;
+import com.serhat.expenseTracker.dto.responses.BalanceSeriesResponse;
+import com.serhat.expenseTracker.dto.responses.ImportResultResponse;
+import com.serhat.expenseTracker.dto.responses.TransactionPageResponse;
 import com.serhat.expenseTracker.entity.enums.Category;
 import com.serhat.expenseTracker.entity.enums.Currency;
 import com.serhat.expenseTracker.entity.enums.Status;
 import com.serhat.expenseTracker.service.transaction.TransactionService;
+import com.serhat.expenseTracker.service.transaction.bulk.TransactionImportService;
+import com.serhat.expenseTracker.service.transaction.export.ExportFormat;
+import com.serhat.expenseTracker.service.transaction.export.TransactionExportService;
 import com.serhat.expenseTracker.service.transaction.recurring.RecurringTransactionService;
+import com.serhat.expenseTracker.service.transaction.summary.TrendGranularity;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -26,9 +40,11 @@ public class TransactionController {
 
     private final TransactionService transactionService;
     private final RecurringTransactionService recurringTransactionService;
+    private final TransactionExportService transactionExportService;
+    private final TransactionImportService transactionImportService;
 
     @PostMapping("/create/one-time")
-    public ResponseEntity<TransactionDto> createExpense(@RequestBody TransactionRequest expenseRequest) {
+    public ResponseEntity<TransactionDto> createExpense(@Valid @RequestBody TransactionRequest expenseRequest) {
         TransactionDto createdExpense = transactionService.createTransaction(expenseRequest);
         return ResponseEntity.ok(createdExpense);
     }
@@ -39,6 +55,11 @@ public class TransactionController {
         return ResponseEntity.ok(createdExpense);
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportResultResponse> importExpenses(@RequestParam("file") MultipartFile file) {
+        return ResponseEntity.ok(transactionImportService.importCsv(file));
+    }
+
     @GetMapping("/{expenseId}")
     public ResponseEntity<TransactionDto> getExpenseById(@PathVariable Long expenseId) {
         TransactionDto expense = transactionService.findTransactionById(expenseId);
@@ -46,7 +67,7 @@ public class TransactionController {
     }
 
     @GetMapping("/recurring")
-    public ResponseEntity<List<TransactionDto>> getRecurringTransactions() {
+    public ResponseEntity<List<RecurringSeriesDto>> getRecurringTransactions() {
         return ResponseEntity.ok(recurringTransactionService.getRecurringTransactions());
     }
 
@@ -83,25 +104,65 @@ public class TransactionController {
     }
 
     @GetMapping("/monthly-summary/{year}/{month}")
-    public ResponseEntity<SummaryDto> summaryByYearAndMonth(@PathVariable int year, @PathVariable int month) {
-        return ResponseEntity.ok(transactionService.getSummaryByYearAndMonth(year, month));
+    public ResponseEntity<SummaryDto> summaryByYearAndMonth(@PathVariable int year, @PathVariable int month,
+                                                            @RequestParam(required = false) Currency currency) {
+        return ResponseEntity.ok(transactionService.getSummaryByYearAndMonth(year, month, currency));
     }
 
     @GetMapping("/annual-summary/{year}")
-    public ResponseEntity<SummaryDto> getAnnualSummary(@PathVariable int year) {
-        return ResponseEntity.ok(transactionService.getSummaryByYear(year));
+    public ResponseEntity<SummaryDto> getAnnualSummary(@PathVariable int year,
+                                                       @RequestParam(required = false) Currency currency) {
+        return ResponseEntity.ok(transactionService.getSummaryByYear(year, currency));
+    }
+
+    @GetMapping("/trend")
+    public ResponseEntity<List<TrendBucketDto>> getTrend(
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(defaultValue = "month") String granularity,
+            @RequestParam(required = false) Currency currency
+    ) {
+        return ResponseEntity.ok(transactionService.getTrend(from, to, TrendGranularity.of(granularity), currency));
+    }
+
+    @GetMapping("/balance")
+    public ResponseEntity<BalanceSeriesResponse> getBalanceSeries(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Currency currency
+    ) {
+        LocalDate endDate = to != null ? to : LocalDate.now();
+        return ResponseEntity.ok(transactionService.getBalanceSeries(from, endDate, currency));
     }
 
     @GetMapping("/filter")
-    public ResponseEntity<List<TransactionDto>> getExpensesByFilters(
+    public ResponseEntity<TransactionPageResponse> getExpensesByFilters(
             @RequestParam(required = false) Integer year,
             @RequestParam(required = false) Integer month,
             @RequestParam(required = false) Category category,
             @RequestParam(required = false) Status status,
             @RequestParam(required = false) Currency currency,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
     ) {
-        List<TransactionDto> expenses = transactionService.findTransactionsByFilters(year, month, category, status, currency, date);
+        TransactionPageResponse expenses = transactionService.findTransactionsByFilters(
+                year, month, category, status, currency, date, cursor, size);
         return ResponseEntity.ok(expenses);
     }
-}
\ No newline at end of file
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportExpenses(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format
+    ) {
+        LocalDate startDate = from != null ? from : LocalDate.of(1970, 1, 1);
+        LocalDate endDate = to != null ? to : LocalDate.now();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.mediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"transactions." + format.extension() + "\"")
+                .body(transactionExportService.export(startDate, endDate, format));
+    }
+}
@@ -0,0 +1,14 @@
+package com.serhat.expenseTracker.dto.objects;
+
+import com.serhat.expenseTracker.entity.enums.Category;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record CategorySpendDto(
+        LocalDate date,
+        Category category,
+        BigDecimal spend,
+        BigDecimal cumulativeSpend
+) {
+}
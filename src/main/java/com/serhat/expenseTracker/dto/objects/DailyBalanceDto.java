@@ -0,0 +1,12 @@
+package com.serhat.expenseTracker.dto.objects;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record DailyBalanceDto(
+        LocalDate date,
+        BigDecimal income,
+        BigDecimal outgoings,
+        BigDecimal balance
+) {
+}
@@ -0,0 +1,29 @@
+package com.serhat.expenseTracker.dto.objects;
+
+import com.serhat.expenseTracker.entity.enums.Category;
+import com.serhat.expenseTracker.entity.enums.Currency;
+import com.serhat.expenseTracker.entity.enums.RecurringStorageMode;
+import com.serhat.expenseTracker.entity.enums.Status;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record RecurringSeriesDto(
+        String recurringSeriesId,
+        Long transactionId,
+        RecurringStorageMode storageMode,
+        BigDecimal amount,
+        Currency currency,
+        Category category,
+        Status status,
+        String description,
+        Integer dayOfMonth,
+        Integer startMonth,
+        Integer startYear,
+        Integer endMonth,
+        Integer endYear,
+        Integer occurrenceCount,
+        LocalDate nextOccurrenceDate,
+        BigDecimal totalAmount
+) {
+}
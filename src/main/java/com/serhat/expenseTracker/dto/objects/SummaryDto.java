@@ -1,12 +1,14 @@
 package com.serhat.expenseTracker.dto.objects;
 
 import com.serhat.expenseTracker.entity.enums.Category;
+import com.serhat.expenseTracker.entity.enums.Currency;
 
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
 
 public record SummaryDto(
+         Currency currency,
          BigDecimal totalIncome,
          BigDecimal totalOutgoings,
          BigDecimal totalBudget,
@@ -0,0 +1,20 @@
+package com.serhat.expenseTracker.dto.objects;
+
+import com.serhat.expenseTracker.entity.enums.Currency;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record TrendBucketDto(
+        String period,
+        LocalDate startDate,
+        LocalDate endDate,
+        Currency currency,
+        BigDecimal totalIncome,
+        BigDecimal totalOutgoings,
+        BigDecimal totalBudget,
+        BigDecimal incomeChange,
+        BigDecimal outgoingsChange,
+        BigDecimal budgetChange
+) {
+}
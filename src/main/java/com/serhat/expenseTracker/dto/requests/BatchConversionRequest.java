@@ -0,0 +1,15 @@
+package com.serhat.expenseTracker.dto.requests;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BatchConversionRequest(
+        @NotEmpty(message = "Conversions cannot be empty")
+        @Size(max = MAX_CONVERSIONS, message = "At most " + MAX_CONVERSIONS + " conversions per request")
+        List<@Valid CurrencyConversionRequest> conversions
+) {
+    public static final int MAX_CONVERSIONS = 10_000;
+}
@@ -0,0 +1,19 @@
+package com.serhat.expenseTracker.dto.requests;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+
+public record CurrencyConversionRequest(
+        @NotBlank(message = "Source currency cannot be empty")
+        String from,
+        @NotBlank(message = "Target currency cannot be empty")
+        String to,
+        @NotNull(message = "Amount cannot be empty")
+        Double amount,
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+        LocalDate date
+) {
+}
@@ -5,15 +5,20 @@ import com.serhat.expenseTracker.entity.enums.Category;
 import com.serhat.expenseTracker.entity.enums.Currency;
 import com.serhat.expenseTracker.entity.enums.Status;
 import com.serhat.expenseTracker.entity.enums.TransactionType;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
 public record TransactionRequest(
+        @NotNull(message = "Amount cannot be empty")
+        @Positive(message = "Amount must be greater than zero")
         BigDecimal amount,
         @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd-MM-yyyy")
         LocalDate date,
         Category category,
+        @NotNull(message = "Status cannot be empty")
         Status status,
         TransactionType transactionType,
         String description,
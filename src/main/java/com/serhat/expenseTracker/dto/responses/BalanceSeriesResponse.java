@@ -0,0 +1,17 @@
+package com.serhat.expenseTracker.dto.responses;
+
+import com.serhat.expenseTracker.dto.objects.CategorySpendDto;
+import com.serhat.expenseTracker.dto.objects.DailyBalanceDto;
+import com.serhat.expenseTracker.entity.enums.Currency;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record BalanceSeriesResponse(
+        LocalDate startDate,
+        LocalDate endDate,
+        Currency currency,
+        List<DailyBalanceDto> balances,
+        List<CategorySpendDto> categorySpend
+) {
+}
@@ -0,0 +1,9 @@
+package com.serhat.expenseTracker.dto.responses;
+
+import java.time.Instant;
+
+public record BatchConversionResponse(
+        double[] converted,
+        Instant ratesFetchedAt
+) {
+}
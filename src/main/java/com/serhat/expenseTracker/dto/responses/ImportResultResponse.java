@@ -0,0 +1,15 @@
+package com.serhat.expenseTracker.dto.responses;
+
+import java.util.List;
+
+public record ImportResultResponse(
+        int acceptedRows,
+        int rejectedRows,
+        List<RejectedRow> rejections
+) {
+    public record RejectedRow(
+            long line,
+            String reason
+    ) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.serhat.expenseTracker.dto.responses;
+
+import com.serhat.expenseTracker.dto.objects.TransactionDto;
+
+import java.util.List;
+
+public record TransactionPageResponse(
+        List<TransactionDto> transactions,
+        String next
+) {
+}
@@ -0,0 +1,36 @@
+package com.serhat.expenseTracker.entity;
+
+import com.serhat.expenseTracker.entity.enums.Currency;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Entity
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name = "exchange_rate", uniqueConstraints = @UniqueConstraint(
+        name = "uk_exchange_rate_day",
+        columnNames = {"rate_date", "currency"}))
+public class ExchangeRate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "rate_date", nullable = false)
+    private LocalDate rateDate;
+
+    @Column(name = "currency", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private Currency currency;
+
+    @Column(name = "rate_per_euro", nullable = false, precision = 24, scale = 10)
+    private BigDecimal ratePerEuro;
+}
@@ -0,0 +1,64 @@
+package com.serhat.expenseTracker.entity;
+
+import com.serhat.expenseTracker.entity.enums.Category;
+import com.serhat.expenseTracker.entity.enums.Currency;
+import com.serhat.expenseTracker.entity.enums.Status;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Explicit change to a single occurrence of a rule-based series.
+ * Only the fields that differ from the series template are set; a skipped occurrence is treated as deleted.
+ */
+@Entity
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name = "recurring_occurrence_override", uniqueConstraints = @UniqueConstraint(
+        name = "uk_recurring_occurrence_override",
+        columnNames = {"series_id", "occurrence_index"}))
+public class RecurringOccurrenceOverride {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "series_id", nullable = false)
+    private RecurringSeries series;
+
+    @Column(name = "occurrence_index", nullable = false)
+    private Integer occurrenceIndex;
+
+    @Column(name = "date")
+    private LocalDate date;
+
+    private BigDecimal amount;
+
+    @Column(name = "description")
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    private Category category;
+
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    @Enumerated(EnumType.STRING)
+    private Currency currency;
+
+    @Column(name = "skipped", nullable = false)
+    private boolean skipped;
+
+    public boolean isEmpty() {
+        return !skipped && date == null && amount == null && description == null
+                && category == null && status == null && currency == null;
+    }
+}
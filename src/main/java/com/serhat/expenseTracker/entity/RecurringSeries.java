@@ -0,0 +1,95 @@
+package com.serhat.expenseTracker.entity;
+
+import com.serhat.expenseTracker.entity.enums.Category;
+import com.serhat.expenseTracker.entity.enums.Currency;
+import com.serhat.expenseTracker.entity.enums.RecurringStorageMode;
+import com.serhat.expenseTracker.entity.enums.Status;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * A recurring series: the template of every occurrence and its monthly schedule, plus denormalized
+ * statistics for the recurring overview. Occurrences of {@link RecurringStorageMode#MATERIALIZED} series
+ * are transaction rows referencing it; those of {@link RecurringStorageMode#RULE} series are generated at read time.
+ */
+@Entity
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name = "recurring_series")
+public class RecurringSeries {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "series_key", nullable = false, unique = true)
+    private String seriesKey;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private AppUser user;
+
+    @Column(name = "storage_mode", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private RecurringStorageMode storageMode;
+
+    private BigDecimal amount;
+
+    @Column(name = "description")
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    private Category category;
+
+    @Column(name = "status", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    @Column(name = "currency", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private Currency currency;
+
+    @Column(name = "day_of_month", nullable = false)
+    private Integer dayOfMonth;
+
+    @Column(name = "start_month", nullable = false)
+    private Integer startMonth;
+
+    @Column(name = "start_year", nullable = false)
+    private Integer startYear;
+
+    @Column(name = "end_month", nullable = false)
+    private Integer endMonth;
+
+    @Column(name = "end_year", nullable = false)
+    private Integer endYear;
+
+    @Column(name = "occurrence_count", nullable = false)
+    private Integer occurrenceCount;
+
+    @Column(name = "next_occurrence_date")
+    private LocalDate nextOccurrenceDate;
+
+    @Column(name = "total_amount", nullable = false)
+    private BigDecimal totalAmount;
+
+    @Column(name = "first_transaction_id")
+    private Long firstTransactionId;
+
+    @Column(name = "updated_at")
+    private LocalDate updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        this.updatedAt = LocalDate.now();
+    }
+}
@@ -22,7 +22,8 @@ import java.time.LocalDate;
 public  class Transaction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_seq")
+    @SequenceGenerator(name = "transaction_seq", sequenceName = "transaction_seq", allocationSize = 50)
     private Long transactionId;
 
     private BigDecimal amount;
@@ -50,24 +51,11 @@ public  class Transaction {
 
     @Column(name = "type", nullable = false)
     @Enumerated(EnumType.STRING)
-
     private TransactionType type;
-    @Column(name = "day_of_month")
-    private Integer dayOfMonth;
-
-    @Column(name = "start_month")
-    private Integer startMonth;
-
-    @Column(name = "start_year")
-    private Integer startYear;
 
-    @Column(name = "end_month")
-    private Integer endMonth;
-
-    @Column(name = "end_year")
-    private Integer endYear;
-
-    private String recurringSeriesId;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "series_id")
+    private RecurringSeries series;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
@@ -1,5 +1,35 @@
 package com.serhat.expenseTracker.entity.enums;
 
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Getter
 public enum Currency {
-    USD, EUR, TL , GBP , GOLD , SILVER
+    USD("USD"), EUR("EUR"), TL("TRY"), GBP("GBP"), GOLD("XAU"), SILVER("XAG");
+
+    private static final Map<String, Currency> BY_ISO_CODE = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(Currency::getIsoCode, Function.identity()));
+
+    /**
+     * ISO 4217 code the exchange rate API quotes this currency under
+     */
+    private final String isoCode;
+
+    Currency(String isoCode) {
+        this.isoCode = isoCode;
+    }
+
+    public static Optional<Currency> ofIsoCode(String isoCode) {
+        if (isoCode == null) {
+            return Optional.empty();
+        }
+        Currency currency = BY_ISO_CODE.get(isoCode);
+        return currency != null ? Optional.of(currency) : Optional.ofNullable(BY_ISO_CODE.get(isoCode.toUpperCase(Locale.ROOT)));
+    }
 }
@@ -0,0 +1,6 @@
+package com.serhat.expenseTracker.entity.enums;
+
+public enum RecurringStorageMode {
+        MATERIALIZED,
+        RULE
+}
@@ -0,0 +1,7 @@
+package com.serhat.expenseTracker.exception;
+
+public class ExchangeRateUnavailableException extends RuntimeException {
+    public ExchangeRateUnavailableException(String s) {
+        super(s);
+    }
+}
@@ -0,0 +1,7 @@
+package com.serhat.expenseTracker.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String s) {
+        super(s);
+    }
+}
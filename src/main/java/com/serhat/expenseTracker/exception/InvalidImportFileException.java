@@ -0,0 +1,7 @@
+package com.serhat.expenseTracker.exception;
+
+public class InvalidImportFileException extends RuntimeException {
+    public InvalidImportFileException(String s) {
+        super(s);
+    }
+}
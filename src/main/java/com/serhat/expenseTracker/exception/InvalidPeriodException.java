@@ -0,0 +1,7 @@
+package com.serhat.expenseTracker.exception;
+
+public class InvalidPeriodException extends RuntimeException {
+    public InvalidPeriodException(String s) {
+        super(s);
+    }
+}
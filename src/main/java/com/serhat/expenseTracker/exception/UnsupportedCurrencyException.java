@@ -0,0 +1,7 @@
+package com.serhat.expenseTracker.exception;
+
+public class UnsupportedCurrencyException extends RuntimeException {
+    public UnsupportedCurrencyException(String s) {
+        super(s);
+    }
+}
@@ -3,6 +3,7 @@ package com.serhat.expenseTracker.jwt;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.serhat.expenseTracker.exception.InvalidTokenException;
 import com.serhat.expenseTracker.service.user.UserDetailsServiceImpl;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
@@ -112,7 +113,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String jwt
     ) throws IOException {
         try {
-            String username = jwtService.extractUsername(jwt);
+            Claims claims = jwtService.parseClaims(jwt);
+            String username = jwtService.extractUsername(claims);
 
             if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
                 log.debug("Processing token for username: {}", username);
@@ -124,16 +126,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     return;
                 }
 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                UserDetails userDetails = userDetailsService.loadAuthenticatedUser(username);
 
-                if (!jwtService.validateToken(jwt, userDetails)) {
+                if (!jwtService.validateToken(jwt, claims, userDetails)) {
                     log.warn("Invalid or expired token for user: {}", username);
                     sendErrorResponse(response, HttpServletResponse.SC_UNAUTHORIZED,
                             "Invalid or expired token. Please log in again.");
                     return;
                 }
 
-                setAuthentication(request, userDetails, jwt);
+                setAuthentication(request, userDetails, claims);
             }
 
             filterChain.doFilter(request, response);
@@ -152,9 +154,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
     }
 
-    private void setAuthentication(HttpServletRequest request, UserDetails userDetails, String jwt) {
+    private void setAuthentication(HttpServletRequest request, UserDetails userDetails, Claims claims) {
         try {
-            String role = jwtService.extracRole(jwt);
+            String role = jwtService.extractRole(claims);
             log.debug("Valid token found for user: {} with role from token: {}",
                     userDetails.getUsername(), role);
             SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + role);
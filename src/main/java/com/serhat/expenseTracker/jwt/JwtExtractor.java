@@ -1,6 +1,7 @@
 package com.serhat.expenseTracker.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.http.Cookie;
@@ -10,24 +11,39 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
-import java.security.Key;
 import java.util.Date;
-import java.util.function.Function;
 
+/**
+ * Verifies tokens with a signing key and parser built once at startup. The parser is immutable and shared
+ * by all request threads; {@link #parseClaims} verifies the signature once and the other methods read the
+ * resulting claims without parsing the token again.
+ */
 @Component
 @Slf4j
 public class JwtExtractor {
 
-    @Value("${security.jwt.secret-key}")
-    private String secret;
+    private final JwtParser parser;
 
-    private Key getSigningKey() {
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    public JwtExtractor(@Value("${security.jwt.secret-key}") String secret) {
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                .build();
+    }
+
+    /**
+     * Verifies the signature and expiry of a token
+     * @return The verified claims of the token
+     */
+    public Claims parseClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
     }
 
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return extractUsername(parseClaims(token));
+    }
+
+    public String extractUsername(Claims claims) {
+        return claims.getSubject();
     }
 
     public String getTokenFromRequest(HttpServletRequest request) {
@@ -46,23 +62,11 @@ public class JwtExtractor {
         return null;
     }
 
-    public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    public Date extractExpiration(Claims claims) {
+        return claims.getExpiration();
     }
 
-    private <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
-    }
-
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-    public String extractRole(String token) {
-        return extractClaim(token, claims -> claims.get("role", String.class));
+    public String extractRole(Claims claims) {
+        return claims.get("role", String.class);
     }
 }
@@ -6,7 +6,6 @@ import com.serhat.expenseTracker.repository.TokenRepository;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
@@ -21,20 +20,21 @@ import java.util.Map;
 
 @Component
 @Slf4j
-@RequiredArgsConstructor
 public class JwtProvider {
 
     @Value("${security.jwt.expiration-time}")
     private long expiration;
 
-    @Value("${security.jwt.secret-key}")
-    private String secret;
+    private final Key signingKey;
     private final TokenRepository tokenRepository;
+    private final TokenStatusCache tokenStatusCache;
 
-
-    private Key getSigningKey() {
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    public JwtProvider(@Value("${security.jwt.secret-key}") String secret,
+                       TokenRepository tokenRepository,
+                       TokenStatusCache tokenStatusCache) {
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.tokenRepository = tokenRepository;
+        this.tokenStatusCache = tokenStatusCache;
     }
 
 
@@ -53,7 +53,7 @@ public class JwtProvider {
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
 
     }
@@ -69,6 +69,7 @@ public class JwtProvider {
                     .build();
 
             tokenRepository.save(newToken);
+            tokenStatusCache.put(newToken);
         } catch (Exception e) {
             log.error("Error saving token", e);
             throw new RuntimeException("Error saving token", e);
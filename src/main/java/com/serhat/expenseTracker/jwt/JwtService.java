@@ -1,5 +1,7 @@
 package com.serhat.expenseTracker.jwt;
 
+import com.serhat.expenseTracker.entity.Token;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -22,21 +24,29 @@ public class JwtService {
         jwtProvider.saveToken(userDetails, token);
     }
 
+    public Claims parseClaims(String token) {
+        return jwtValidator.parseClaims(token);
+    }
+
     public String extractUsername(String token) {
         return jwtExtractor.extractUsername(token);
     }
 
-    public String extracRole(String token) {
-        return jwtExtractor.extractRole(token);
+    public String extractUsername(Claims claims) {
+        return jwtExtractor.extractUsername(claims);
+    }
+
+    public String extractRole(Claims claims) {
+        return jwtExtractor.extractRole(claims);
     }
 
-    public boolean validateToken(String token , UserDetails userDetails){
-        return jwtValidator.validateToken(token, userDetails);
+    public boolean validateToken(String token, Claims claims, UserDetails userDetails) {
+        return jwtValidator.validateToken(token, claims, userDetails);
     }
 
     public void invalidateAndBlacklistToken(String token) {
-        jwtValidator.invalidateToken(token);
-        blacklistService.blacklistToken(token);
+        Token storedToken = jwtValidator.invalidateToken(token);
+        blacklistService.blacklistToken(token, storedToken.getExpiresAt());
     }
 
     public String getTokenFromRequest(HttpServletRequest request) {
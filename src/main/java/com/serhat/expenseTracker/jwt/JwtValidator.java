@@ -4,9 +4,11 @@ import com.serhat.expenseTracker.entity.Token;
 import com.serhat.expenseTracker.entity.enums.TokenStatus;
 import com.serhat.expenseTracker.exception.InvalidTokenException;
 import com.serhat.expenseTracker.repository.TokenRepository;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SignatureException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -22,47 +24,53 @@ public class JwtValidator{
 
     private final JwtExtractor jwtExtractor;
     private final TokenRepository tokenRepository;
+    private final TokenStatusCache tokenStatusCache;
 
 
-    public boolean validateToken(String token, UserDetails userDetails) {
+    /**
+     * Verifies the signature of a token once, the returned claims are passed on to the other checks
+     * @throws InvalidTokenException if the token is expired, malformed or not signed with our key
+     */
+    public Claims parseClaims(String token) {
         try {
-            final String username = jwtExtractor.extractUsername(token);
-            tokenRepository.findByToken(token)
-                    .orElseThrow(() -> new InvalidTokenException("Token not found in database"));
-
-            return username.equals(userDetails.getUsername()) && !isTokenInvalid(token);
+            return jwtExtractor.parseClaims(token);
         } catch (ExpiredJwtException e) {
             throw new InvalidTokenException("Token has expired");
-        } catch (MalformedJwtException | UnsupportedJwtException e) {
+        } catch (MalformedJwtException | UnsupportedJwtException | SignatureException e) {
             throw new InvalidTokenException("Invalid JWT token");
         } catch (Exception e) {
             throw new InvalidTokenException("Token validation failed: " + e.getMessage());
         }
     }
 
-    private boolean isTokenInvalid(String token) {
+    public boolean validateToken(String token, Claims claims, UserDetails userDetails) {
         try {
-            boolean isExpiredByDate = isTokenExpired(token);
-            Token storedToken = tokenRepository.findByToken(token)
+            final String username = jwtExtractor.extractUsername(claims);
+            TokenStatus status = tokenStatusCache.getStatus(token)
                     .orElseThrow(() -> new InvalidTokenException("Token not found in database"));
-            boolean isExpiredByStatus = storedToken.getTokenStatus() != TokenStatus.ACTIVE;
-            return isExpiredByDate || isExpiredByStatus;
+
+            return username.equals(userDetails.getUsername()) && status == TokenStatus.ACTIVE && !isTokenExpired(claims);
         } catch (Exception e) {
-            log.error("Error checking token validity", e);
-            throw new InvalidTokenException("Error checking token validity");
+            throw new InvalidTokenException("Token validation failed: " + e.getMessage());
         }
     }
 
-    public boolean isTokenExpired(String token) {
-        return jwtExtractor.extractExpiration(token).before(new Date());
+    public boolean isTokenExpired(Claims claims) {
+        return jwtExtractor.extractExpiration(claims).before(new Date());
     }
 
-    public void invalidateToken(String token) {
+    /**
+     * Marks a stored token as logged out
+     * @return The updated token
+     */
+    public Token invalidateToken(String token) {
         Token storedToken = tokenRepository.findByToken(token)
                 .orElseThrow(() -> new InvalidTokenException("Token not found in database"));
         storedToken.setTokenStatus(TokenStatus.LOGGED_OUT);
         storedToken.setExpired_at(Date.from(Instant.now()));
         tokenRepository.save(storedToken);
+        tokenStatusCache.put(storedToken);
+        return storedToken;
     }
 
 }
\ No newline at end of file
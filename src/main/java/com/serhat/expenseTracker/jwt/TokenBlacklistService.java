@@ -1,19 +1,150 @@
 package com.serhat.expenseTracker.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Revoked tokens, keyed by their SHA-256 digest. Entries drop out when the token itself expires.
+ * A {@link TokenBloomFilter} answers most lookups of tokens that were never revoked without touching the map.
+ * Logouts are appended to the {@link TokenRevocationLog} and every node polls it, so a logout on one node
+ * is honored on the others within {@code security.jwt.revocation.poll-interval}.
+ */
 @Service
+@Slf4j
 public class TokenBlacklistService {
-    private final Set<String> blacklistedTokens = new HashSet<>();
 
-    public void blacklistToken(String token) {
-        blacklistedTokens.add(token);
+    private final TokenRevocationLog revocationLog;
+    private final Cache<String, Instant> revokedTokens;
+    private final AtomicReference<TokenBloomFilter> bloomFilter;
+    private final int expectedRevocations;
+    private final double falsePositiveRate;
+    private final Duration pollOverlap;
+    private final Object writeLock = new Object();
+    private Instant lastRevokedAt = Instant.EPOCH;
+
+    public TokenBlacklistService(TokenRevocationLog revocationLog,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${security.jwt.revocation.expected-revocations:10000}") int expectedRevocations,
+                                 @Value("${security.jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+                                 @Value("${security.jwt.revocation.poll-overlap:PT30S}") Duration pollOverlap) {
+        this.revocationLog = revocationLog;
+        this.revokedTokens = Caffeine.newBuilder()
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.pollOverlap = pollOverlap;
+        this.bloomFilter = new AtomicReference<>(new TokenBloomFilter(expectedRevocations, falsePositiveRate));
+        Gauge.builder("tokens.revoked", revokedTokens, Cache::estimatedSize)
+                .description("Revoked tokens that have not expired yet")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Revokes a token on this node and records it in the revocation log for the other nodes
+     */
+    public void blacklistToken(String token, Date expiresAt) {
+        String tokenHash = TokenDigest.sha256Hex(token);
+        revocationLog.append(tokenHash, expiresAt.toInstant());
+        remember(tokenHash, expiresAt.toInstant());
     }
 
     public boolean isTokenBlacklisted(String token) {
-        return blacklistedTokens.contains(token);
+        String tokenHash = TokenDigest.sha256Hex(token);
+        return bloomFilter.get().mightContain(tokenHash) && revokedTokens.getIfPresent(tokenHash) != null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        pollQuietly();
+    }
+
+    /**
+     * Picks up revocations logged by other nodes. Rows are re-read from slightly before the newest
+     * revocation seen so far, so a row committed late by a slow transaction is not missed.
+     */
+    @Scheduled(initialDelayString = "${security.jwt.revocation.poll-interval:PT5S}",
+            fixedDelayString = "${security.jwt.revocation.poll-interval:PT5S}")
+    public void pollQuietly() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            log.warn("Token revocations could not be polled, retrying on the next poll: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes expired revocations from the log and rebuilds the Bloom filter without them
+     */
+    @Scheduled(initialDelayString = "${security.jwt.revocation.purge-interval:PT10M}",
+            fixedDelayString = "${security.jwt.revocation.purge-interval:PT10M}")
+    public void purge() {
+        try {
+            int deleted = revocationLog.deleteExpired();
+            log.debug("Deleted {} expired token revocations", deleted);
+        } catch (RuntimeException e) {
+            log.warn("Expired token revocations could not be deleted: {}", e.getMessage());
+        }
+        revokedTokens.cleanUp();
+        synchronized (writeLock) {
+            int size = (int) Math.min(Integer.MAX_VALUE, revokedTokens.estimatedSize());
+            TokenBloomFilter rebuilt = new TokenBloomFilter(Math.max(expectedRevocations, size * 2), falsePositiveRate);
+            revokedTokens.asMap().keySet().forEach(rebuilt::put);
+            bloomFilter.set(rebuilt);
+        }
+    }
+
+    private synchronized void poll() {
+        Instant since = lastRevokedAt.equals(Instant.EPOCH) ? Instant.EPOCH : lastRevokedAt.minus(pollOverlap);
+        List<TokenRevocationLog.Revocation> revocations = revocationLog.findRevokedSince(since);
+        for (TokenRevocationLog.Revocation revocation : revocations) {
+            remember(revocation.tokenHash(), revocation.expiresAt());
+            if (revocation.revokedAt().isAfter(lastRevokedAt)) {
+                lastRevokedAt = revocation.revokedAt();
+            }
+        }
+        log.debug("Polled {} token revocations", revocations.size());
+    }
+
+    private void remember(String tokenHash, Instant expiresAt) {
+        if (!expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        synchronized (writeLock) {
+            revokedTokens.put(tokenHash, expiresAt);
+            bloomFilter.get().put(tokenHash);
+        }
+    }
+
+    private static class UntilTokenExpiry implements Expiry<String, Instant> {
+        @Override
+        public long expireAfterCreate(String key, Instant expiresAt, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), expiresAt).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Instant expiresAt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, expiresAt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Instant expiresAt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -0,0 +1,48 @@
+package com.serhat.expenseTracker.jwt;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter over SHA-256 token digests. {@link #mightContain} never returns false for an added
+ * digest, so a negative answer proves a token was not revoked without touching the revocation map.
+ * Additions and lookups are lock-free; entries cannot be removed, the filter is rebuilt instead.
+ */
+final class TokenBloomFilter {
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    TokenBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        int insertions = Math.max(1, expectedInsertions);
+        long optimalBits = (long) Math.ceil(-insertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bits = new AtomicLongArray((int) Math.max(1, (optimalBits + 63) / 64));
+        this.bitCount = bits.length() * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / insertions * Math.log(2)));
+    }
+
+    void put(String digestHex) {
+        long hash1 = Long.parseUnsignedLong(digestHex, 0, 16, 16);
+        long hash2 = Long.parseUnsignedLong(digestHex, 16, 32, 16);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = ((hash1 + i * hash2) & Long.MAX_VALUE) % bitCount;
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            while (((current = bits.get(word)) & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    boolean mightContain(String digestHex) {
+        long hash1 = Long.parseUnsignedLong(digestHex, 0, 16, 16);
+        long hash2 = Long.parseUnsignedLong(digestHex, 16, 32, 16);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = ((hash1 + i * hash2) & Long.MAX_VALUE) % bitCount;
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,50 @@
+package com.serhat.expenseTracker.jwt;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Shared log of revoked tokens in the {@code token_revocation} table. Every node appends its logouts
+ * and reads the rows appended since its last poll, so revocations reach all nodes behind the load balancer.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TokenRevocationLog {
+    private static final String INSERT_SQL =
+            "INSERT INTO token_revocation (token_hash, expires_at) VALUES (?, ?)";
+    private static final String SELECT_SQL = """
+            SELECT token_hash, expires_at, revoked_at FROM token_revocation
+            WHERE revoked_at >= ? AND expires_at > CURRENT_TIMESTAMP
+            ORDER BY revoked_at
+            """;
+    private static final String DELETE_EXPIRED_SQL =
+            "DELETE FROM token_revocation WHERE expires_at <= CURRENT_TIMESTAMP";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void append(String tokenHash, Instant expiresAt) {
+        jdbcTemplate.update(INSERT_SQL, tokenHash, Timestamp.from(expiresAt));
+    }
+
+    /**
+     * Revocations of tokens that have not expired yet, recorded at or after the given time
+     */
+    public List<Revocation> findRevokedSince(Instant since) {
+        return jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> new Revocation(
+                rs.getString("token_hash"),
+                rs.getTimestamp("expires_at").toInstant(),
+                rs.getTimestamp("revoked_at").toInstant()), Timestamp.from(since));
+    }
+
+    public int deleteExpired() {
+        return jdbcTemplate.update(DELETE_EXPIRED_SQL);
+    }
+
+    public record Revocation(String tokenHash, Instant expiresAt, Instant revokedAt) {
+    }
+}
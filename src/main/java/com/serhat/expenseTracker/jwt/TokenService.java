@@ -12,6 +12,7 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class TokenService {
     private final TokenRepository tokenRepository;
+    private final TokenStatusCache tokenStatusCache;
     public List<Token> getAllTokens() {
         return tokenRepository.findAll();
     }
@@ -21,5 +22,6 @@ public class TokenService {
 
     public void saveToken(Token token) {
         tokenRepository.save(token);
+        tokenStatusCache.put(token);
     }
 }
@@ -0,0 +1,95 @@
+package com.serhat.expenseTracker.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.serhat.expenseTracker.entity.Token;
+import com.serhat.expenseTracker.entity.enums.TokenStatus;
+import com.serhat.expenseTracker.repository.TokenRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Bounded cache of the stored status of issued tokens, keyed by the SHA-256 hash of the token so the
+ * request path does not query the token table. An entry never outlives the token's {@code expiresAt}.
+ * Status changes are written through by {@link #put}, so a logout is honored on the next request.
+ * Hit, miss and eviction counts are published as the {@code token.statuses} cache metrics.
+ */
+@Component
+@Slf4j
+public class TokenStatusCache {
+
+    private final TokenRepository tokenRepository;
+    private final Cache<String, CachedStatus> cache;
+
+    public TokenStatusCache(TokenRepository tokenRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${security.jwt.status-cache.maximum-size:50000}") long maximumSize,
+                            @Value("${security.jwt.status-cache.expire-after-write:15m}") Duration expireAfterWrite) {
+        this.tokenRepository = tokenRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpiry(expireAfterWrite))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "token.statuses");
+    }
+
+    /**
+     * The stored status of a token, read from the database only on a cache miss
+     * @return Empty if the token was never saved
+     */
+    public Optional<TokenStatus> getStatus(String token) {
+        CachedStatus cached = cache.get(TokenDigest.sha256Hex(token), key -> tokenRepository.findByToken(token)
+                .map(CachedStatus::of)
+                .orElse(null));
+        return Optional.ofNullable(cached).map(CachedStatus::status);
+    }
+
+    /**
+     * Records the status of a token that has just been saved
+     */
+    public void put(Token token) {
+        cache.put(TokenDigest.sha256Hex(token.getToken()), CachedStatus.of(token));
+        log.debug("Cached status {} for token of user: {}", token.getTokenStatus(), token.getUsername());
+    }
+
+    private record CachedStatus(TokenStatus status, Instant expiresAt) {
+        static CachedStatus of(Token token) {
+            Instant expiresAt = token.getExpiresAt() != null ? token.getExpiresAt().toInstant() : Instant.MAX;
+            return new CachedStatus(token.getTokenStatus(), expiresAt);
+        }
+    }
+
+    private record UntilTokenExpiry(Duration maximum) implements Expiry<String, CachedStatus> {
+        @Override
+        public long expireAfterCreate(String key, CachedStatus value, long currentTime) {
+            return remaining(value);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedStatus value, long currentTime, long currentDuration) {
+            return remaining(value);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedStatus value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        private long remaining(CachedStatus value) {
+            Duration untilExpiry = Duration.between(Instant.now(), value.expiresAt());
+            if (untilExpiry.isNegative()) {
+                return 0;
+            }
+            return untilExpiry.compareTo(maximum) < 0 ? untilExpiry.toNanos() : maximum.toNanos();
+        }
+    }
+}
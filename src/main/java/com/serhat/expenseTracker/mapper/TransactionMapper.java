@@ -1,11 +1,16 @@
 package com.serhat.expenseTracker.mapper;
 
+import com.serhat.expenseTracker.dto.objects.RecurringSeriesDto;
 import com.serhat.expenseTracker.dto.objects.TransactionDto;
 import com.serhat.expenseTracker.dto.requests.TransactionRequest;
 import com.serhat.expenseTracker.entity.AppUser;
+import com.serhat.expenseTracker.entity.RecurringSeries;
 import com.serhat.expenseTracker.entity.Transaction;
 import com.serhat.expenseTracker.entity.enums.Currency;
+import com.serhat.expenseTracker.entity.enums.RecurringStorageMode;
 import com.serhat.expenseTracker.entity.enums.TransactionType;
+import com.serhat.expenseTracker.service.transaction.recurring.RecurringOccurrenceExpander;
+import com.serhat.expenseTracker.service.transaction.recurring.RuleOccurrenceId;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
@@ -14,6 +19,7 @@ import java.time.LocalDate;
 public class TransactionMapper {
 
     public TransactionDto toTransactionDto(Transaction expense) {
+        RecurringSeries series = expense.getSeries();
         return new TransactionDto(
                 expense.getTransactionId(),
                 expense.getAmount(),
@@ -23,17 +29,50 @@ public class TransactionMapper {
                 expense.getStatus(),
                 expense.getDescription(),
                 expense.getType(),
-                expense.getDayOfMonth(),
-                expense.getStartMonth(),
-                expense.getStartYear(),
-                expense.getEndMonth(),
-                expense.getEndYear(),
-                expense.getRecurringSeriesId()
+                series != null ? series.getDayOfMonth() : null,
+                series != null ? series.getStartMonth() : null,
+                series != null ? series.getStartYear() : null,
+                series != null ? series.getEndMonth() : null,
+                series != null ? series.getEndYear() : null,
+                series != null ? series.getSeriesKey() : null
         );
     }
 
-    public Transaction toTransaction(TransactionRequest request, AppUser user) {
-        Currency selectedCurrency = user.getFavoriteCurrency() != null ? user.getFavoriteCurrency() : request.currency();
+    /**
+     * Maps a series for the recurring overview. A next occurrence date that has passed since
+     * the series was last written is advanced along the schedule.
+     */
+    public RecurringSeriesDto toRecurringSeriesDto(RecurringSeries series) {
+        LocalDate today = LocalDate.now();
+        LocalDate nextOccurrenceDate = series.getNextOccurrenceDate();
+        if (nextOccurrenceDate == null || nextOccurrenceDate.isBefore(today)) {
+            nextOccurrenceDate = RecurringOccurrenceExpander.nextScheduledDate(series, today);
+        }
+        Long transactionId = series.getStorageMode() == RecurringStorageMode.RULE
+                ? new RuleOccurrenceId(series.getId(), 0).toTransactionId()
+                : series.getFirstTransactionId();
+        return new RecurringSeriesDto(
+                series.getSeriesKey(),
+                transactionId,
+                series.getStorageMode(),
+                series.getAmount(),
+                series.getCurrency(),
+                series.getCategory(),
+                series.getStatus(),
+                series.getDescription(),
+                series.getDayOfMonth(),
+                series.getStartMonth(),
+                series.getStartYear(),
+                series.getEndMonth(),
+                series.getEndYear(),
+                series.getOccurrenceCount(),
+                nextOccurrenceDate,
+                series.getTotalAmount()
+        );
+    }
+
+    public Transaction toTransaction(TransactionRequest request, AppUser user, Currency favoriteCurrency) {
+        Currency selectedCurrency = favoriteCurrency != null ? favoriteCurrency : request.currency();
         return Transaction.builder()
                 .amount(request.amount())
                 .description(request.description())
@@ -0,0 +1,22 @@
+package com.serhat.expenseTracker.repository;
+
+import com.serhat.expenseTracker.entity.ExchangeRate;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ExchangeRateRepository extends JpaRepository<ExchangeRate, Long> {
+
+    /**
+     * Every stored rate in ascending date order
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT r FROM ExchangeRate r ORDER BY r.rateDate")
+    List<ExchangeRate> findAllOrderByRateDate();
+}
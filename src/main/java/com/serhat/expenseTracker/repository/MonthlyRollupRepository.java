@@ -0,0 +1,169 @@
+package com.serhat.expenseTracker.repository;
+
+import com.serhat.expenseTracker.entity.AppUser;
+import com.serhat.expenseTracker.entity.MonthlyRollup;
+import com.serhat.expenseTracker.repository.projection.CategoryStatusTotal;
+import com.serhat.expenseTracker.repository.projection.PeriodStatusTotal;
+import com.serhat.expenseTracker.repository.projection.RollupPeriod;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Repository
+public interface MonthlyRollupRepository extends JpaRepository<MonthlyRollup, Long> {
+
+    @Query("""
+            SELECT r.periodMonth AS month, r.category AS category, r.status AS status, r.currency AS currency,
+                   SUM(r.transactionCount) AS transactionCount, SUM(r.totalAmount) AS totalAmount
+            FROM MonthlyRollup r
+            WHERE r.user = :user AND r.periodYear = :year AND r.periodMonth BETWEEN :fromMonth AND :toMonth
+            GROUP BY r.periodMonth, r.category, r.status, r.currency
+            """)
+    List<CategoryStatusTotal> summarizeByCategoryAndStatus(@Param("user") AppUser user,
+                                                           @Param("year") int year,
+                                                           @Param("fromMonth") int fromMonth,
+                                                           @Param("toMonth") int toMonth);
+
+    /**
+     * Per-month, per-status, per-currency totals between two months, each encoded as {@code year * 12 + month}
+     */
+    @Query("""
+            SELECT r.periodYear AS year, r.periodMonth AS month, r.status AS status, r.currency AS currency,
+                   SUM(r.totalAmount) AS totalAmount
+            FROM MonthlyRollup r
+            WHERE r.user = :user AND r.periodYear * 12 + r.periodMonth BETWEEN :fromMonth AND :toMonth
+            GROUP BY r.periodYear, r.periodMonth, r.status, r.currency
+            ORDER BY r.periodYear, r.periodMonth
+            """)
+    List<PeriodStatusTotal> summarizeByPeriodAndStatus(@Param("user") AppUser user,
+                                                       @Param("fromMonth") int fromMonth,
+                                                       @Param("toMonth") int toMonth);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO monthly_rollup (user_id, period_year, period_month, category, status, currency,
+                                        transaction_count, total_amount)
+            VALUES (:userId, :year, :month, :category, :status, :currency, :count, :amount)
+            ON CONFLICT (user_id, period_year, period_month, category, status, currency)
+            DO UPDATE SET transaction_count = monthly_rollup.transaction_count + EXCLUDED.transaction_count,
+                          total_amount = monthly_rollup.total_amount + EXCLUDED.total_amount
+            """)
+    int applyDelta(@Param("userId") Long userId,
+                   @Param("year") int year,
+                   @Param("month") int month,
+                   @Param("category") String category,
+                   @Param("status") String status,
+                   @Param("currency") String currency,
+                   @Param("count") long count,
+                   @Param("amount") BigDecimal amount);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO monthly_rollup (user_id, period_year, period_month, category, status, currency,
+                                        transaction_count, total_amount)
+            SELECT t.user_id,
+                   CAST(EXTRACT(YEAR FROM t.date) AS INTEGER),
+                   CAST(EXTRACT(MONTH FROM t.date) AS INTEGER),
+                   COALESCE(t.category, 'OTHER'),
+                   t.status,
+                   t.currency,
+                   COUNT(*),
+                   COALESCE(SUM(t.amount), 0)
+            FROM transaction t
+            WHERE t.series_id = :seriesId
+            GROUP BY 1, 2, 3, 4, 5, 6
+            ON CONFLICT (user_id, period_year, period_month, category, status, currency)
+            DO UPDATE SET transaction_count = monthly_rollup.transaction_count + EXCLUDED.transaction_count,
+                          total_amount = monthly_rollup.total_amount + EXCLUDED.total_amount
+            """)
+    int addSeries(@Param("seriesId") Long seriesId);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            UPDATE monthly_rollup r
+            SET transaction_count = r.transaction_count - s.transaction_count,
+                total_amount = r.total_amount - s.total_amount
+            FROM (SELECT t.user_id,
+                         CAST(EXTRACT(YEAR FROM t.date) AS INTEGER) AS period_year,
+                         CAST(EXTRACT(MONTH FROM t.date) AS INTEGER) AS period_month,
+                         COALESCE(t.category, 'OTHER') AS category,
+                         t.status,
+                         t.currency,
+                         COUNT(*) AS transaction_count,
+                         COALESCE(SUM(t.amount), 0) AS total_amount
+                  FROM transaction t
+                  WHERE t.series_id = :seriesId
+                  GROUP BY 1, 2, 3, 4, 5, 6) s
+            WHERE r.user_id = s.user_id
+              AND r.period_year = s.period_year
+              AND r.period_month = s.period_month
+              AND r.category = s.category
+              AND r.status = s.status
+              AND r.currency = s.currency
+            """)
+    int subtractSeries(@Param("seriesId") Long seriesId);
+
+    @Query(nativeQuery = true, value = """
+            SELECT DISTINCT CAST(EXTRACT(YEAR FROM t.date) AS INTEGER) AS year,
+                            CAST(EXTRACT(MONTH FROM t.date) AS INTEGER) AS month
+            FROM transaction t
+            WHERE t.series_id = :seriesId
+            """)
+    List<RollupPeriod> findSeriesPeriods(@Param("seriesId") Long seriesId);
+
+    @Modifying
+    @Query(nativeQuery = true, value = "DELETE FROM monthly_rollup WHERE user_id = :userId AND transaction_count = 0")
+    int deleteEmptyRollups(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(nativeQuery = true, value = "DELETE FROM monthly_rollup")
+    int deleteAllRollups();
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO monthly_rollup (user_id, period_year, period_month, category, status, currency,
+                                        transaction_count, total_amount)
+            SELECT t.user_id,
+                   CAST(EXTRACT(YEAR FROM t.date) AS INTEGER),
+                   CAST(EXTRACT(MONTH FROM t.date) AS INTEGER),
+                   COALESCE(t.category, 'OTHER'),
+                   t.status,
+                   t.currency,
+                   COUNT(*),
+                   COALESCE(SUM(t.amount), 0)
+            FROM transaction t
+            GROUP BY 1, 2, 3, 4, 5, 6
+            """)
+    int rebuildFromTransactions();
+
+    @Query(nativeQuery = true, value = """
+            SELECT COUNT(*)
+            FROM (SELECT t.user_id,
+                         CAST(EXTRACT(YEAR FROM t.date) AS INTEGER) AS period_year,
+                         CAST(EXTRACT(MONTH FROM t.date) AS INTEGER) AS period_month,
+                         COALESCE(t.category, 'OTHER') AS category,
+                         t.status,
+                         t.currency,
+                         COUNT(*) AS transaction_count,
+                         COALESCE(SUM(t.amount), 0) AS total_amount
+                  FROM transaction t
+                  GROUP BY 1, 2, 3, 4, 5, 6) expected
+            FULL OUTER JOIN monthly_rollup r
+                ON r.user_id = expected.user_id
+               AND r.period_year = expected.period_year
+               AND r.period_month = expected.period_month
+               AND r.category = expected.category
+               AND r.status = expected.status
+               AND r.currency = expected.currency
+            WHERE expected.user_id IS NULL
+               OR r.id IS NULL
+               OR r.transaction_count <> expected.transaction_count
+               OR r.total_amount <> expected.total_amount
+            """)
+    long countMismatchedRollups();
+}
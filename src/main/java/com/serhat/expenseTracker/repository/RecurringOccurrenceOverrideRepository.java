@@ -0,0 +1,39 @@
+package com.serhat.expenseTracker.repository;
+
+import com.serhat.expenseTracker.entity.RecurringOccurrenceOverride;
+import com.serhat.expenseTracker.entity.RecurringSeries;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RecurringOccurrenceOverrideRepository extends JpaRepository<RecurringOccurrenceOverride, Long> {
+    List<RecurringOccurrenceOverride> findBySeriesIn(Collection<RecurringSeries> series);
+
+    Optional<RecurringOccurrenceOverride> findBySeriesAndOccurrenceIndex(RecurringSeries series, Integer occurrenceIndex);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM RecurringOccurrenceOverride o WHERE o.series = :series")
+    int deleteBySeries(@Param("series") RecurringSeries series);
+
+    /**
+     * Drops overridden details after the whole series was edited, keeping moved and skipped occurrences
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE RecurringOccurrenceOverride o
+            SET o.amount = NULL, o.description = NULL, o.category = NULL, o.status = NULL, o.currency = NULL
+            WHERE o.series = :series
+            """)
+    int clearDetails(@Param("series") RecurringSeries series);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM RecurringOccurrenceOverride o WHERE o.series = :series AND o.skipped = false AND o.date IS NULL")
+    int deleteUnchanged(@Param("series") RecurringSeries series);
+}
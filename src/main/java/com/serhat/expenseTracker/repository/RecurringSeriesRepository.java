@@ -0,0 +1,33 @@
+package com.serhat.expenseTracker.repository;
+
+import com.serhat.expenseTracker.entity.AppUser;
+import com.serhat.expenseTracker.entity.RecurringSeries;
+import com.serhat.expenseTracker.entity.enums.RecurringStorageMode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RecurringSeriesRepository extends JpaRepository<RecurringSeries, Long> {
+    Optional<RecurringSeries> findByIdAndUser(Long id, AppUser user);
+
+    List<RecurringSeries> findByUserOrderByStartYearAscStartMonthAsc(AppUser user);
+
+    /**
+     * Series whose schedule overlaps the given months, each month encoded as {@code year * 12 + month}
+     */
+    @Query("""
+            SELECT s FROM RecurringSeries s
+            WHERE s.user = :user AND s.storageMode = :storageMode
+              AND s.startYear * 12 + s.startMonth <= :toMonth
+              AND s.endYear * 12 + s.endMonth >= :fromMonth
+            """)
+    List<RecurringSeries> findOverlapping(@Param("user") AppUser user,
+                                          @Param("storageMode") RecurringStorageMode storageMode,
+                                          @Param("fromMonth") int fromMonth,
+                                          @Param("toMonth") int toMonth);
+}
@@ -1,24 +1,139 @@
 package com.serhat.expenseTracker.repository;
 
 import com.serhat.expenseTracker.entity.AppUser;
+import com.serhat.expenseTracker.entity.RecurringSeries;
 import com.serhat.expenseTracker.entity.Transaction;
-import com.serhat.expenseTracker.entity.enums.TransactionType;
+import com.serhat.expenseTracker.entity.enums.Category;
+import com.serhat.expenseTracker.entity.enums.Currency;
+import com.serhat.expenseTracker.entity.enums.Status;
+import com.serhat.expenseTracker.repository.projection.CategoryCurrencySpend;
+import com.serhat.expenseTracker.repository.projection.DailyCurrencyTotal;
+import com.serhat.expenseTracker.repository.projection.SeriesStatistics;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface TransactionRepository extends JpaRepository<Transaction,Long> {
+public interface TransactionRepository extends JpaRepository<Transaction,Long>, JpaSpecificationExecutor<Transaction> {
+    /**
+     * Every stored transaction of a user up to :endDate, plus the occurrences of their rule-based
+     * recurring series with overrides applied and skipped occurrences left out.
+     */
+    String LEDGER_CTE = """
+            WITH rule_occurrence AS (
+                SELECT COALESCE(o.date,
+                                m.month_start + LEAST(s.day_of_month,
+                                    CAST(EXTRACT(DAY FROM m.month_start + INTERVAL '1 month' - INTERVAL '1 day') AS INTEGER)) - 1)
+                           AS date,
+                       COALESCE(o.category, s.category, 'OTHER') AS category,
+                       COALESCE(o.status, s.status) AS status,
+                       COALESCE(o.currency, s.currency) AS currency,
+                       COALESCE(o.amount, s.amount, 0) AS amount
+                FROM recurring_series s
+                CROSS JOIN LATERAL generate_series(0, (s.end_year * 12 + s.end_month) - (s.start_year * 12 + s.start_month)) AS g(i)
+                CROSS JOIN LATERAL (SELECT CAST(make_date(s.start_year, s.start_month, 1) + make_interval(months => g.i) AS DATE)
+                                        AS month_start) m
+                LEFT JOIN recurring_occurrence_override o ON o.series_id = s.id AND o.occurrence_index = g.i
+                WHERE s.user_id = :userId AND s.storage_mode = 'RULE' AND (o.skipped IS NULL OR NOT o.skipped)
+            ),
+            ledger AS (
+                SELECT t.date, COALESCE(t.category, 'OTHER') AS category, t.status, t.currency, COALESCE(t.amount, 0) AS amount
+                FROM transaction t
+                WHERE t.user_id = :userId AND t.date <= :endDate
+                UNION ALL
+                SELECT r.date, r.category, r.status, r.currency, r.amount
+                FROM rule_occurrence r
+                WHERE r.date <= :endDate
+            )
+            """;
+
     Optional<Transaction> findByUserAndTransactionId(AppUser user, Long transactionId);
 
     List<Transaction> findByUserAndDateBetween(AppUser user, LocalDate startDate, LocalDate endDate);
 
-    List<Transaction> findByUserAndType(AppUser user, TransactionType transactionType);
+    @Query("""
+            SELECT COUNT(t) AS occurrenceCount, SUM(t.amount) AS totalAmount, MIN(t.transactionId) AS firstTransactionId
+            FROM Transaction t
+            WHERE t.series = :series
+            """)
+    SeriesStatistics summarizeSeries(@Param("series") RecurringSeries series);
+
+    @Query("SELECT MIN(t.date) FROM Transaction t WHERE t.series = :series AND t.date >= :fromDate")
+    LocalDate findNextOccurrenceDate(@Param("series") RecurringSeries series, @Param("fromDate") LocalDate fromDate);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Transaction t
+            SET t.amount = :amount, t.description = :description, t.category = :category,
+                t.status = :status, t.currency = :currency, t.updatedAt = :updatedAt
+            WHERE t.series = :series
+            """)
+    int updateSeriesDetails(@Param("series") RecurringSeries series,
+                            @Param("amount") BigDecimal amount,
+                            @Param("description") String description,
+                            @Param("category") Category category,
+                            @Param("status") Status status,
+                            @Param("currency") Currency currency,
+                            @Param("updatedAt") LocalDate updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Transaction t WHERE t.series = :series")
+    int deleteBySeries(@Param("series") RecurringSeries series);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT t FROM Transaction t
+            LEFT JOIN FETCH t.series
+            WHERE t.user = :user AND t.date BETWEEN :startDate AND :endDate
+            ORDER BY t.date, t.transactionId
+            """)
+    Stream<Transaction> streamByUserAndDateBetween(@Param("user") AppUser user,
+                                                   @Param("startDate") LocalDate startDate,
+                                                   @Param("endDate") LocalDate endDate);
 
-    List<Transaction> findByRecurringSeriesId(String recurringSeriesId);
+    /**
+     * Income and outgoings per currency on each day between the dates that has any.
+     * The rows without a date hold the totals of everything before the start date.
+     */
+    @Query(nativeQuery = true, value = LEDGER_CTE + """
+            SELECT CASE WHEN date < :startDate THEN NULL ELSE date END AS "date",
+                   currency AS "currency",
+                   SUM(CASE WHEN status = 'INCOME' THEN amount ELSE 0 END) AS "income",
+                   SUM(CASE WHEN status = 'INCOME' THEN 0 ELSE amount END) AS "outgoings"
+            FROM ledger
+            GROUP BY 1, currency
+            ORDER BY 1 NULLS FIRST
+            """)
+    List<DailyCurrencyTotal> findDailyTotalsByCurrency(@Param("userId") Long userId,
+                                                       @Param("startDate") LocalDate startDate,
+                                                       @Param("endDate") LocalDate endDate);
 
-    int deleteByRecurringSeriesId(String recurringSeriesId);
+    /**
+     * Outgoings per category and currency on each day they occur between the dates
+     */
+    @Query(nativeQuery = true, value = LEDGER_CTE + """
+            SELECT date AS "date", category AS "category", currency AS "currency", SUM(amount) AS "spend"
+            FROM ledger
+            WHERE date >= :startDate AND status <> 'INCOME'
+            GROUP BY date, category, currency
+            ORDER BY date, category
+            """)
+    List<CategoryCurrencySpend> findDailySpendByCategory(@Param("userId") Long userId,
+                                                         @Param("startDate") LocalDate startDate,
+                                                         @Param("endDate") LocalDate endDate);
 }
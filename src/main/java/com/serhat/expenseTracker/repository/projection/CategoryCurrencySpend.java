@@ -0,0 +1,14 @@
+package com.serhat.expenseTracker.repository.projection;
+
+import com.serhat.expenseTracker.entity.enums.Category;
+import com.serhat.expenseTracker.entity.enums.Currency;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface CategoryCurrencySpend {
+    LocalDate getDate();
+    Category getCategory();
+    Currency getCurrency();
+    BigDecimal getSpend();
+}
@@ -0,0 +1,16 @@
+package com.serhat.expenseTracker.repository.projection;
+
+import com.serhat.expenseTracker.entity.enums.Category;
+import com.serhat.expenseTracker.entity.enums.Currency;
+import com.serhat.expenseTracker.entity.enums.Status;
+
+import java.math.BigDecimal;
+
+public interface CategoryStatusTotal {
+    Integer getMonth();
+    Category getCategory();
+    Status getStatus();
+    Currency getCurrency();
+    Long getTransactionCount();
+    BigDecimal getTotalAmount();
+}
@@ -0,0 +1,13 @@
+package com.serhat.expenseTracker.repository.projection;
+
+import com.serhat.expenseTracker.entity.enums.Currency;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface DailyCurrencyTotal {
+    LocalDate getDate();
+    Currency getCurrency();
+    BigDecimal getIncome();
+    BigDecimal getOutgoings();
+}
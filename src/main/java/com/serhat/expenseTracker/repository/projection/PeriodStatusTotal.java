@@ -0,0 +1,14 @@
+package com.serhat.expenseTracker.repository.projection;
+
+import com.serhat.expenseTracker.entity.enums.Currency;
+import com.serhat.expenseTracker.entity.enums.Status;
+
+import java.math.BigDecimal;
+
+public interface PeriodStatusTotal {
+    Integer getYear();
+    Integer getMonth();
+    Status getStatus();
+    Currency getCurrency();
+    BigDecimal getTotalAmount();
+}
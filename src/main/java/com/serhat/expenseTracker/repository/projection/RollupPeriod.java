@@ -0,0 +1,6 @@
+package com.serhat.expenseTracker.repository.projection;
+
+public interface RollupPeriod {
+    Integer getYear();
+    Integer getMonth();
+}
@@ -0,0 +1,9 @@
+package com.serhat.expenseTracker.repository.projection;
+
+import java.math.BigDecimal;
+
+public interface SeriesStatistics {
+    Long getOccurrenceCount();
+    BigDecimal getTotalAmount();
+    Long getFirstTransactionId();
+}
@@ -0,0 +1,37 @@
+package com.serhat.expenseTracker.repository.specification;
+
+import com.serhat.expenseTracker.entity.Transaction;
+import com.serhat.expenseTracker.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last transaction returned by a page, ordered by (date, transactionId) descending.
+ * Encoded as an opaque URL-safe token so clients only pass it back.
+ */
+public record TransactionCursor(LocalDate date, Long transactionId) {
+
+    public static TransactionCursor after(Transaction transaction) {
+        return new TransactionCursor(transaction.getDate(), transaction.getTransactionId());
+    }
+
+    public static TransactionCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new TransactionCursor(
+                    LocalDate.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidCursorException("Malformed page cursor: " + token);
+        }
+    }
+
+    public String encode() {
+        String raw = date + "|" + transactionId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
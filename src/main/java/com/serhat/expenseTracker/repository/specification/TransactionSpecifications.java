@@ -0,0 +1,58 @@
+package com.serhat.expenseTracker.repository.specification;
+
+import com.serhat.expenseTracker.entity.AppUser;
+import com.serhat.expenseTracker.entity.Transaction;
+import com.serhat.expenseTracker.entity.enums.Category;
+import com.serhat.expenseTracker.entity.enums.Currency;
+import com.serhat.expenseTracker.entity.enums.Status;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+/**
+ * Filters for {@link Transaction} queries. A {@code null} argument means "no restriction".
+ */
+public final class TransactionSpecifications {
+
+    private TransactionSpecifications() {
+    }
+
+    public static Specification<Transaction> belongsTo(AppUser user) {
+        return (root, query, cb) -> cb.equal(root.get("user"), user);
+    }
+
+    public static Specification<Transaction> dateFrom(LocalDate startDate) {
+        return (root, query, cb) -> startDate == null ? null : cb.greaterThanOrEqualTo(root.get("date"), startDate);
+    }
+
+    public static Specification<Transaction> dateUntil(LocalDate endDate) {
+        return (root, query, cb) -> endDate == null ? null : cb.lessThanOrEqualTo(root.get("date"), endDate);
+    }
+
+    public static Specification<Transaction> onDate(LocalDate date) {
+        return (root, query, cb) -> date == null ? null : cb.equal(root.get("date"), date);
+    }
+
+    public static Specification<Transaction> hasCategory(Category category) {
+        return (root, query, cb) -> category == null ? null : cb.equal(root.get("category"), category);
+    }
+
+    public static Specification<Transaction> hasStatus(Status status) {
+        return (root, query, cb) -> status == null ? null : cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Transaction> hasCurrency(Currency currency) {
+        return (root, query, cb) -> currency == null ? null : cb.equal(root.get("currency"), currency);
+    }
+
+    /**
+     * Keyset condition: rows strictly after the cursor in (date, transactionId) descending order
+     */
+    public static Specification<Transaction> after(TransactionCursor cursor) {
+        return (root, query, cb) -> cursor == null ? null : cb.or(
+                cb.lessThan(root.get("date"), cursor.date()),
+                cb.and(
+                        cb.equal(root.get("date"), cursor.date()),
+                        cb.lessThan(root.get("transactionId"), cursor.transactionId())));
+    }
+}
@@ -0,0 +1,50 @@
+package com.serhat.expenseTracker.service.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Shared log of cache evictions in the {@code cache_eviction} table. Every node appends the keys it evicts
+ * and reads the rows other nodes appended since its last poll.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CacheEvictionLog {
+    private static final String INSERT_SQL =
+            "INSERT INTO cache_eviction (node_id, cache_name, cache_key) VALUES (?, ?, ?)";
+    private static final String SELECT_SQL = """
+            SELECT id, cache_name, cache_key, evicted_at FROM cache_eviction
+            WHERE evicted_at >= ? AND node_id <> ?
+            ORDER BY evicted_at
+            """;
+    private static final String DELETE_OLD_SQL = "DELETE FROM cache_eviction WHERE evicted_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void append(String nodeId, String cacheName, String key) {
+        jdbcTemplate.update(INSERT_SQL, nodeId, cacheName, key);
+    }
+
+    /**
+     * Evictions appended by other nodes at or after the given time
+     */
+    public List<Eviction> findEvictedSince(Instant since, String nodeId) {
+        return jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> new Eviction(
+                rs.getLong("id"),
+                rs.getString("cache_name"),
+                rs.getString("cache_key"),
+                rs.getTimestamp("evicted_at").toInstant()), Timestamp.from(since), nodeId);
+    }
+
+    public int deleteOlderThan(Instant before) {
+        return jdbcTemplate.update(DELETE_OLD_SQL, Timestamp.from(before));
+    }
+
+    public record Eviction(long id, String cacheName, String key, Instant evictedAt) {
+    }
+}
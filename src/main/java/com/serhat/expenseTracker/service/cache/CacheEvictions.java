@@ -0,0 +1,133 @@
+package com.serhat.expenseTracker.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Evicts entries of the node-local caches on this node and on every other node.
+ * A local eviction runs immediately and again after the surrounding transaction completes, so a read racing
+ * the commit cannot put the old value back. Once the transaction has committed, the eviction is appended to the
+ * {@link CacheEvictionLog} in a transaction of its own; every node polls the log, so other nodes drop the entry
+ * within {@code cache.eviction.poll-interval}.
+ */
+@Service
+@Slf4j
+public class CacheEvictions {
+
+    private final CacheEvictionLog evictionLog;
+    private final TransactionTemplate newTransaction;
+    private final Duration pollOverlap;
+    private final Duration retention;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, Consumer<String>> listeners = new ConcurrentHashMap<>();
+    private final Cache<Long, Boolean> appliedEvictions;
+    private Instant lastEvictedAt = Instant.now();
+
+    public CacheEvictions(CacheEvictionLog evictionLog,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${cache.eviction.poll-overlap:PT30S}") Duration pollOverlap,
+                          @Value("${cache.eviction.retention:PT10M}") Duration retention) {
+        this.evictionLog = evictionLog;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.pollOverlap = pollOverlap;
+        this.retention = retention;
+        this.appliedEvictions = Caffeine.newBuilder()
+                .expireAfterWrite(pollOverlap.multipliedBy(2))
+                .build();
+    }
+
+    /**
+     * Registers how a cache evicts a key broadcast by another node
+     */
+    public void register(String cacheName, Consumer<String> evictLocally) {
+        listeners.put(cacheName, evictLocally);
+    }
+
+    /**
+     * Evicts on this node now and after the surrounding transaction completes, and once it has committed
+     * broadcasts {@code key} to the other nodes, whose registered listener evicts it there
+     */
+    public void evict(String cacheName, String key, Runnable evictLocally) {
+        evictLocally.run();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            broadcast(cacheName, key);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                evictLocally.run();
+                if (status == STATUS_COMMITTED) {
+                    broadcast(cacheName, key);
+                }
+            }
+        });
+    }
+
+    private void broadcast(String cacheName, String key) {
+        try {
+            newTransaction.executeWithoutResult(status -> evictionLog.append(nodeId, cacheName, key));
+        } catch (RuntimeException e) {
+            log.warn("Eviction of {} from {} could not be broadcast, other nodes expire it after its TTL: {}",
+                    key, cacheName, e.getMessage());
+        }
+    }
+
+    /**
+     * Applies evictions broadcast by other nodes. Rows are re-read from slightly before the newest
+     * eviction seen so far, so a row committed late by a slow transaction is not missed; rows already
+     * applied are skipped.
+     */
+    @Scheduled(initialDelayString = "${cache.eviction.poll-interval:PT5S}",
+            fixedDelayString = "${cache.eviction.poll-interval:PT5S}")
+    public synchronized void poll() {
+        List<CacheEvictionLog.Eviction> evictions;
+        try {
+            evictions = evictionLog.findEvictedSince(lastEvictedAt.minus(pollOverlap), nodeId);
+        } catch (RuntimeException e) {
+            log.warn("Cache evictions could not be polled, retrying on the next poll: {}", e.getMessage());
+            return;
+        }
+        int applied = 0;
+        for (CacheEvictionLog.Eviction eviction : evictions) {
+            if (eviction.evictedAt().isAfter(lastEvictedAt)) {
+                lastEvictedAt = eviction.evictedAt();
+            }
+            Consumer<String> listener = listeners.get(eviction.cacheName());
+            if (listener != null && appliedEvictions.asMap().putIfAbsent(eviction.id(), Boolean.TRUE) == null) {
+                listener.accept(eviction.key());
+                applied++;
+            }
+        }
+        log.debug("Applied {} of {} polled cache evictions", applied, evictions.size());
+    }
+
+    @Scheduled(initialDelayString = "${cache.eviction.retention:PT10M}",
+            fixedDelayString = "${cache.eviction.retention:PT10M}")
+    public void purge() {
+        try {
+            int deleted = evictionLog.deleteOlderThan(Instant.now().minus(retention));
+            log.debug("Deleted {} old cache evictions", deleted);
+        } catch (RuntimeException e) {
+            log.warn("Old cache evictions could not be deleted: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.serhat.expenseTracker.service.currency;
+
+import com.serhat.expenseTracker.exception.ExchangeRateUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads the latest rates from the exchange rate API. At most {@code max-concurrent-requests} calls run at once
+ * and further ones are rejected instead of queueing; timeouts and server errors are retried up to
+ * {@code max-attempts} times, and the {@link ExchangeRateCircuitBreaker} suspends calls after repeated failures.
+ * Every call is timed as {@code exchangerates.api.requests}, tagged with its outcome.
+ */
+@Component
+@ConditionalOnProperty(name = "exchangeratesapi.provider", havingValue = "api", matchIfMissing = true)
+@Slf4j
+public class ApiExchangeRateProvider implements ExchangeRateProvider {
+    private static final String LATEST_RATES_PATH = "/latest?access_key={apiKey}";
+
+    @Value("${exchangeratesapi.base-url}")
+    private String baseUrl;
+
+    @Value("${exchangeratesapi.api-key}")
+    private String apiKey;
+
+    private final RestTemplate restTemplate;
+    private final ExchangeRateCircuitBreaker circuitBreaker;
+    private final Semaphore bulkhead;
+    private final int maxAttempts;
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Timer rejectedTimer;
+
+    public ApiExchangeRateProvider(@Qualifier("exchangeRateRestTemplate") RestTemplate restTemplate,
+                                   ExchangeRateCircuitBreaker circuitBreaker,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${exchangeratesapi.client.max-concurrent-requests:2}") int maxConcurrentRequests,
+                                   @Value("${exchangeratesapi.client.max-attempts:2}") int maxAttempts) {
+        this.restTemplate = restTemplate;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = new Semaphore(maxConcurrentRequests);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.successTimer = requestTimer(meterRegistry, "success");
+        this.failureTimer = requestTimer(meterRegistry, "failure");
+        this.rejectedTimer = requestTimer(meterRegistry, "rejected");
+    }
+
+    @Override
+    public Map<String, Double> fetchLatestRates() {
+        long startedAt = System.nanoTime();
+        if (!bulkhead.tryAcquire()) {
+            rejectedTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            throw new ExchangeRateUnavailableException("Too many concurrent calls to the exchange rate API");
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            bulkhead.release();
+            rejectedTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            throw new ExchangeRateUnavailableException("Exchange rate API is suspended after repeated failures");
+        }
+        try {
+            Map<String, Double> rates = fetchWithRetries();
+            circuitBreaker.recordSuccess();
+            successTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            return rates;
+        } catch (RuntimeException e) {
+            circuitBreaker.recordFailure();
+            failureTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            throw e;
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private Map<String, Double> fetchWithRetries() {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                ExchangeRateResponse response = restTemplate.getForObject(
+                        baseUrl + LATEST_RATES_PATH, ExchangeRateResponse.class, apiKey);
+
+                if (response == null || !response.isSuccess() || response.getRates() == null) {
+                    throw new RuntimeException("Failed to fetch exchange rates from API");
+                }
+                return response.getRates();
+            } catch (ResourceAccessException | HttpServerErrorException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                log.warn("Exchange rate API call {} of {} failed, retrying: {}", attempt, maxAttempts, e.getMessage());
+            }
+        }
+    }
+
+    private static Timer requestTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("exchangerates.api.requests")
+                .description("Calls to the exchange rate API")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Setter
+    @Getter
+    static class ExchangeRateResponse {
+        private boolean success;
+        private Map<String, Double> rates;
+
+    }
+}
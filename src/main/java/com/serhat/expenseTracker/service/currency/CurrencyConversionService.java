@@ -1,54 +1,114 @@
 package com.serhat.expenseTracker.service.currency;
 
-import lombok.Getter;
-import lombok.Setter;
-import org.springframework.beans.factory.annotation.Value;
+import com.serhat.expenseTracker.dto.requests.CurrencyConversionRequest;
+import com.serhat.expenseTracker.dto.responses.BatchConversionResponse;
+import com.serhat.expenseTracker.entity.enums.Currency;
+import com.serhat.expenseTracker.exception.UnsupportedCurrencyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
-import java.util.Map;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Converts amounts with the in-process {@link ExchangeRateTable}: its latest snapshot, or its in-memory
+ * {@link HistoricalRates} for past dates; requests never wait for the exchange rate API or the database.
+ * Latest rates are available for every ISO code the rate source quotes, historical rates only for the
+ * supported {@link Currency} values. Both return the converted amount unrounded.
+ */
 @Service
+@Slf4j
 public class CurrencyConversionService {
 
-    @Value("${exchangeratesapi.base-url}")
-    private String baseUrl;
+    private final ExchangeRateTable exchangeRateTable;
+    private final Timer batchTimer;
 
-    @Value("${exchangeratesapi.api-key}")
-    private String apiKey;
+    public CurrencyConversionService(ExchangeRateTable exchangeRateTable, MeterRegistry meterRegistry) {
+        this.exchangeRateTable = exchangeRateTable;
+        this.batchTimer = Timer.builder("currency.conversion.batch")
+                .description("Time to answer a batch of currency conversions")
+                .register(meterRegistry);
+    }
 
-    private final RestTemplate restTemplate;
+    public double convertCurrency(String from, String to, double amount) {
+        return amount * exchangeRateTable.snapshot().crossRate(from, to);
+    }
 
-    public CurrencyConversionService(RestTemplate restTemplate) {
-        this.restTemplate = restTemplate;
+    /**
+     * Converts at the rates of the given day, or the closest earlier day with published rates
+     */
+    public double convertCurrency(String from, String to, double amount, LocalDate date) {
+        return amount * exchangeRateTable.historicalRates().crossRate(currency(from), currency(to), date);
     }
 
-    public double convertCurrency(String from, String to, double amount) {
-        String url = String.format("%s/latest?access_key=%s&symbols=%s,%s",
-                baseUrl, apiKey, from, to);
+    /**
+     * Converts every item with one rate snapshot, and items with a date with the in-memory history.
+     * Currency codes are resolved to {@link Currency} values up front, together with the cross rates of dated
+     * items and of codes outside the matrix, so the conversion loop is a matrix read and a multiplication per item.
+     * @return Converted amounts in the order of the conversions
+     */
+    public BatchConversionResponse convertBatch(List<CurrencyConversionRequest> conversions) {
+        long startedAt = System.nanoTime();
+        int size = conversions.size();
+        ExchangeRateSnapshot snapshot = exchangeRateTable.snapshot();
+        HistoricalRates historicalRates = exchangeRateTable.historicalRates();
 
-        ExchangeRateResponse response = restTemplate.getForObject(url, ExchangeRateResponse.class);
+        double[] amounts = new double[size];
+        Currency[] fromCurrencies = new Currency[size];
+        Currency[] toCurrencies = new Currency[size];
+        double[] crossRates = new double[size];
+        for (int i = 0; i < size; i++) {
+            CurrencyConversionRequest conversion = conversions.get(i);
+            amounts[i] = conversion.amount();
+            fromCurrencies[i] = Currency.ofIsoCode(conversion.from()).orElse(null);
+            toCurrencies[i] = Currency.ofIsoCode(conversion.to()).orElse(null);
+            if (conversion.date() != null) {
+                crossRates[i] = historicalRates.crossRate(supported(fromCurrencies[i], conversion.from()),
+                        supported(toCurrencies[i], conversion.to()), conversion.date());
+            } else if (fromCurrencies[i] == null || toCurrencies[i] == null) {
+                crossRates[i] = snapshot.quotedCrossRate(conversion.from(), conversion.to());
+            } else {
+                crossRates[i] = Double.NaN;
+            }
+        }
 
-        if (response == null || !response.isSuccess()) {
-            throw new RuntimeException("Failed to fetch exchange rates from API");
+        double[] converted = new double[size];
+        for (int i = 0; i < size; i++) {
+            double crossRate = Double.isNaN(crossRates[i]) ? snapshot.crossRate(fromCurrencies[i], toCurrencies[i]) : crossRates[i];
+            converted[i] = amounts[i] * crossRate;
         }
 
-        Double fromRate = response.getRates().get(from);
-        Double toRate = response.getRates().get(to);
+        long elapsed = System.nanoTime() - startedAt;
+        batchTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        log.debug("Converted {} amounts in {} µs", size, elapsed / 1_000);
+        return new BatchConversionResponse(converted, snapshot.fetchedAt());
+    }
 
-        if (fromRate == null || toRate == null) {
-            throw new RuntimeException("Exchange rate not found for " + from + " or " + to);
-        }
+    private Currency currency(String isoCode) {
+        return supported(Currency.ofIsoCode(isoCode).orElse(null), isoCode);
+    }
 
-        double amountInEur = amount / fromRate;
-        return amountInEur * toRate;
+    private Currency supported(Currency currency, String isoCode) {
+        if (currency == null) {
+            throw new UnsupportedCurrencyException("Historical exchange rates are only kept for "
+                    + Arrays.stream(Currency.values()).map(Currency::getIsoCode).toList() + ", not " + isoCode);
+        }
+        return currency;
     }
 
-    @Setter
-    @Getter
-    static class ExchangeRateResponse {
-        private boolean success;
-        private Map<String, Double> rates;
+    /**
+     * How long clients may reuse a conversion before the rates behind it expire
+     */
+    public Duration rateFreshness() {
+        return exchangeRateTable.remainingFreshness();
+    }
 
+    public Duration rateTtl() {
+        return exchangeRateTable.getTtl();
     }
 }
@@ -0,0 +1,36 @@
+package com.serhat.expenseTracker.service.currency;
+
+import com.serhat.expenseTracker.entity.enums.Currency;
+import com.serhat.expenseTracker.exception.ExchangeRateUnavailableException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * The {@link HistoricalRates} of a date range paired with the current {@link ExchangeRateSnapshot}.
+ * Amounts are converted at the rates of their date; days after today, and currencies without
+ * any stored history, use the current snapshot.
+ */
+public final class DatedRates {
+    private final HistoricalRates history;
+    private final ExchangeRateSnapshot snapshot;
+
+    DatedRates(HistoricalRates history, ExchangeRateSnapshot snapshot) {
+        this.history = history;
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * @return The converted amount rounded to cents
+     * @throws ExchangeRateUnavailableException if neither the history nor the snapshot has both rates
+     */
+    public BigDecimal convert(BigDecimal amount, Currency from, Currency to, LocalDate date) {
+        if (from == to || amount.signum() == 0) {
+            return amount;
+        }
+        if (!date.isAfter(LocalDate.now()) && history.covers(from) && history.covers(to)) {
+            return history.convert(amount, from, to, date);
+        }
+        return snapshot.convert(amount, from, to);
+    }
+}
@@ -0,0 +1,76 @@
+package com.serhat.expenseTracker.service.currency;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Stops calling the exchange rate API after a run of consecutive failures. While open, calls are
+ * rejected at once and the last good rate snapshot keeps being served; after the open duration one
+ * trial call is let through, and its outcome closes the breaker again or reopens it.
+ * The state is published as the {@code exchangerates.api.circuit.open} gauge.
+ */
+@Component
+@Slf4j
+public class ExchangeRateCircuitBreaker {
+    private final int failureThreshold;
+    private final long openNanos;
+
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean open;
+    private boolean trialInFlight;
+
+    public ExchangeRateCircuitBreaker(MeterRegistry meterRegistry,
+                                      @Value("${exchangeratesapi.client.failure-threshold:5}") int failureThreshold,
+                                      @Value("${exchangeratesapi.client.open-duration:PT1M}") Duration openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+        Gauge.builder("exchangerates.api.circuit.open", this, breaker -> breaker.isOpen() ? 1 : 0)
+                .description("1 while calls to the exchange rate API are suspended")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return Whether a call may be made now
+     */
+    public synchronized boolean tryAcquire() {
+        if (!open) {
+            return true;
+        }
+        if (!trialInFlight && System.nanoTime() - openedAt >= openNanos) {
+            trialInFlight = true;
+            return true;
+        }
+        return false;
+    }
+
+    public synchronized void recordSuccess() {
+        if (open) {
+            log.info("Exchange rate API recovered, closing the circuit");
+        }
+        open = false;
+        trialInFlight = false;
+        consecutiveFailures = 0;
+    }
+
+    public synchronized void recordFailure() {
+        consecutiveFailures++;
+        if (trialInFlight || consecutiveFailures >= failureThreshold) {
+            if (!open) {
+                log.warn("Exchange rate API failed {} times in a row, opening the circuit", consecutiveFailures);
+            }
+            open = true;
+            openedAt = System.nanoTime();
+            trialInFlight = false;
+        }
+    }
+
+    public synchronized boolean isOpen() {
+        return open;
+    }
+}
@@ -0,0 +1,111 @@
+package com.serhat.expenseTracker.service.currency;
+
+import com.serhat.expenseTracker.entity.enums.Currency;
+import com.serhat.expenseTracker.repository.ExchangeRateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stores one rate per currency and day in the {@code exchange_rate} table and loads all of it as
+ * {@link HistoricalRates}, which the {@link ExchangeRateTable} keeps in memory between refreshes.
+ * Today's rates are recorded on every refresh of the {@link ExchangeRateTable}; older days are backfilled from a file.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExchangeRateHistory {
+    private static final int BATCH_SIZE = 500;
+    private static final String UPSERT_SQL = """
+            INSERT INTO exchange_rate (rate_date, currency, rate_per_euro)
+            VALUES (?, ?, ?)
+            ON CONFLICT (rate_date, currency) DO UPDATE SET rate_per_euro = EXCLUDED.rate_per_euro
+            """;
+
+    private final ExchangeRateRepository exchangeRateRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional(readOnly = true)
+    public HistoricalRates loadAll() {
+        return HistoricalRates.of(exchangeRateRepository.findAllOrderByRateDate());
+    }
+
+    @Transactional
+    public void record(LocalDate date, Map<Currency, BigDecimal> rates) {
+        List<Object[]> rows = new ArrayList<>(rates.size());
+        rates.forEach((currency, rate) -> rows.add(new Object[]{Date.valueOf(date), currency.name(), rate}));
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+    }
+
+    /**
+     * Loads daily rates from a CSV file whose header is {@code date} followed by ISO currency codes,
+     * e.g. {@code date,EUR,USD,TRY}, with one row per day. Existing days are overwritten.
+     * @return Number of rates written
+     */
+    @Transactional
+    public int backfill(Resource file) {
+        log.info("Backfilling exchange rates from {}", file.getDescription());
+        int written = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            String header = reader.readLine();
+            if (header == null) {
+                return 0;
+            }
+            Currency[] columns = parseHeader(header.split(","));
+
+            List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                String[] values = line.split(",");
+                Date date = Date.valueOf(LocalDate.parse(values[0].trim()));
+                for (int column = 1; column < values.length && column < columns.length; column++) {
+                    String value = values[column].trim();
+                    if (columns[column] != null && !value.isEmpty()) {
+                        batch.add(new Object[]{date, columns[column].name(), new BigDecimal(value)});
+                    }
+                }
+                if (batch.size() >= BATCH_SIZE) {
+                    jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+                    written += batch.size();
+                    batch.clear();
+                }
+            }
+            jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+            written += batch.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read exchange rates from " + file.getDescription(), e);
+        }
+        log.info("Backfilled {} exchange rates", written);
+        return written;
+    }
+
+    private Currency[] parseHeader(String[] names) {
+        Currency[] columns = new Currency[names.length];
+        for (int column = 1; column < names.length; column++) {
+            String code = names[column].trim();
+            columns[column] = Currency.ofIsoCode(code).orElse(null);
+            if (columns[column] == null) {
+                log.warn("Ignoring exchange rate column of unknown currency: {}", code);
+            }
+        }
+        return columns;
+    }
+}
@@ -0,0 +1,13 @@
+package com.serhat.expenseTracker.service.currency;
+
+import java.util.Map;
+
+/**
+ * Source of the latest exchange rates loaded into {@link ExchangeRateTable}
+ */
+public interface ExchangeRateProvider {
+    /**
+     * Latest rates of every ISO code the source quotes, each per one EUR
+     */
+    Map<String, Double> fetchLatestRates();
+}
@@ -0,0 +1,162 @@
+package com.serhat.expenseTracker.service.currency;
+
+import com.serhat.expenseTracker.entity.enums.Currency;
+import com.serhat.expenseTracker.exception.ExchangeRateUnavailableException;
+import com.serhat.expenseTracker.exception.UnsupportedCurrencyException;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable cross-rate matrix of every pair of {@link Currency} values, indexed by ordinal as [from][to],
+ * precomputed from the rates per EUR loaded at {@code fetchedAt}. A conversion is one array read and a
+ * multiplication; pairs involving a currency without a loaded rate hold {@code NaN} and {@code null}.
+ * The rates of every other quoted ISO code are kept by code, and only used for codes outside the matrix.
+ */
+public final class ExchangeRateSnapshot {
+    private static final MathContext RATE_PRECISION = MathContext.DECIMAL64;
+    private static final int AMOUNT_SCALE = 2;
+
+    static final ExchangeRateSnapshot EMPTY = of(Map.of(), Map.of(), Instant.EPOCH);
+
+    private final double[][] crossRates;
+    private final BigDecimal[][] decimalCrossRates;
+    private final Map<String, Double> quotedRates;
+    private final Instant fetchedAt;
+
+    private ExchangeRateSnapshot(double[][] crossRates, BigDecimal[][] decimalCrossRates, Map<String, Double> quotedRates,
+                                 Instant fetchedAt) {
+        this.crossRates = crossRates;
+        this.decimalCrossRates = decimalCrossRates;
+        this.quotedRates = quotedRates;
+        this.fetchedAt = fetchedAt;
+    }
+
+    /**
+     * @param ratesPerEuro Rates of the supported currencies
+     * @param quotedRates Rates of every quoted ISO code, per EUR
+     */
+    static ExchangeRateSnapshot of(Map<Currency, BigDecimal> ratesPerEuro, Map<String, Double> quotedRates, Instant fetchedAt) {
+        Currency[] currencies = Currency.values();
+        double[][] crossRates = new double[currencies.length][currencies.length];
+        BigDecimal[][] decimalCrossRates = new BigDecimal[currencies.length][currencies.length];
+        for (Currency from : currencies) {
+            BigDecimal fromRate = ratesPerEuro.get(from);
+            for (Currency to : currencies) {
+                BigDecimal toRate = ratesPerEuro.get(to);
+                BigDecimal crossRate;
+                if (from == to) {
+                    crossRate = BigDecimal.ONE;
+                } else if (fromRate != null && toRate != null) {
+                    crossRate = toRate.divide(fromRate, RATE_PRECISION);
+                } else {
+                    crossRate = null;
+                }
+                decimalCrossRates[from.ordinal()][to.ordinal()] = crossRate;
+                crossRates[from.ordinal()][to.ordinal()] = crossRate != null ? crossRate.doubleValue() : Double.NaN;
+            }
+        }
+        Map<String, Double> ratesByCode = new HashMap<>();
+        quotedRates.forEach((code, rate) -> {
+            if (rate != null && rate > 0) {
+                ratesByCode.put(code.toUpperCase(Locale.ROOT), rate);
+            }
+        });
+        return new ExchangeRateSnapshot(crossRates, decimalCrossRates, Map.copyOf(ratesByCode), fetchedAt);
+    }
+
+    /**
+     * Units of {@code to} per one unit of {@code from}
+     * @throws ExchangeRateUnavailableException if either rate has not been loaded
+     */
+    public double crossRate(Currency from, Currency to) {
+        double rate = crossRates[from.ordinal()][to.ordinal()];
+        if (Double.isNaN(rate)) {
+            throw unavailable(from, to);
+        }
+        return rate;
+    }
+
+    /**
+     * Units of {@code to} per one unit of {@code from}, for any two ISO codes the rate source quotes.
+     * Pairs of supported currencies are read from the matrix; other codes from the quoted rates.
+     * @throws UnsupportedCurrencyException if a code is not quoted by the rate source
+     * @throws ExchangeRateUnavailableException if a rate has not been loaded yet
+     */
+    public double crossRate(String fromCode, String toCode) {
+        Currency from = Currency.ofIsoCode(fromCode).orElse(null);
+        Currency to = Currency.ofIsoCode(toCode).orElse(null);
+        if (from != null && to != null) {
+            return crossRate(from, to);
+        }
+        return quotedCrossRate(fromCode, toCode);
+    }
+
+    /**
+     * Units of {@code to} per one unit of {@code from} through their rates per EUR,
+     * for codes outside the supported {@link Currency} values
+     * @throws UnsupportedCurrencyException if a code is not quoted by the rate source
+     * @throws ExchangeRateUnavailableException if no rates have been loaded yet
+     */
+    public double quotedCrossRate(String fromCode, String toCode) {
+        String from = fromCode.toUpperCase(Locale.ROOT);
+        String to = toCode.toUpperCase(Locale.ROOT);
+        if (from.equals(to)) {
+            return 1.0;
+        }
+        return quotedRate(to) / quotedRate(from);
+    }
+
+    private double quotedRate(String code) {
+        Double rate = quotedRates.get(code);
+        if (rate != null) {
+            return rate;
+        }
+        if (quotedRates.isEmpty() || Currency.ofIsoCode(code).isPresent()) {
+            throw new ExchangeRateUnavailableException("No exchange rate loaded for " + code);
+        }
+        throw new UnsupportedCurrencyException("No exchange rate is published for " + code);
+    }
+
+    /**
+     * Units of {@code to} per one unit of {@code from}, for exact decimal conversions
+     * @throws ExchangeRateUnavailableException if either rate has not been loaded
+     */
+    public BigDecimal decimalCrossRate(Currency from, Currency to) {
+        BigDecimal rate = decimalCrossRates[from.ordinal()][to.ordinal()];
+        if (rate == null) {
+            throw unavailable(from, to);
+        }
+        return rate;
+    }
+
+    /**
+     * Converts an amount with this snapshot's rates
+     * @return The converted amount rounded to cents
+     * @throws ExchangeRateUnavailableException if either rate has not been loaded
+     */
+    public BigDecimal convert(BigDecimal amount, Currency from, Currency to) {
+        if (from == to || amount.signum() == 0) {
+            return amount;
+        }
+        return amount.multiply(decimalCrossRate(from, to), RATE_PRECISION).setScale(AMOUNT_SCALE, RoundingMode.HALF_EVEN);
+    }
+
+    public Instant fetchedAt() {
+        return fetchedAt;
+    }
+
+    public boolean isOlderThan(Duration ttl) {
+        return fetchedAt.plus(ttl).isBefore(Instant.now());
+    }
+
+    private ExchangeRateUnavailableException unavailable(Currency from, Currency to) {
+        return new ExchangeRateUnavailableException("No exchange rate loaded for " + from + " to " + to);
+    }
+}
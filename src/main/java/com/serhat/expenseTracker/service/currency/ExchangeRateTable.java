@@ -0,0 +1,160 @@
+package com.serhat.expenseTracker.service.currency;
+
+import com.serhat.expenseTracker.entity.enums.Currency;
+import com.serhat.expenseTracker.exception.ExchangeRateUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-process snapshot of the cross rates between every pair of {@link Currency} values,
+ * and of the rates of every other ISO code the {@link ExchangeRateProvider} quotes.
+ * Conversions only read the snapshot and never wait for the {@link ExchangeRateProvider}.
+ * The snapshot is loaded at startup, refreshed on a schedule and swapped as a whole; a read of a
+ * snapshot older than the TTL is still served while a single background refresh replaces it.
+ * Every refresh also records the day's rates in the {@link ExchangeRateHistory} and reloads the whole history
+ * into an immutable {@link HistoricalRates}, swapped as a whole, so dated conversions never query the database.
+ */
+@Component
+@Slf4j
+public class ExchangeRateTable {
+    private final ExchangeRateProvider exchangeRateProvider;
+    private final ExchangeRateHistory exchangeRateHistory;
+    private final TaskExecutor taskExecutor;
+    private final Duration ttl;
+    private final AtomicReference<ExchangeRateSnapshot> snapshot = new AtomicReference<>(ExchangeRateSnapshot.EMPTY);
+    private final AtomicReference<HistoricalRates> history = new AtomicReference<>(HistoricalRates.of(List.of()));
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    public ExchangeRateTable(ExchangeRateProvider exchangeRateProvider,
+                             ExchangeRateHistory exchangeRateHistory,
+                             @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                             @Value("${exchangeratesapi.ttl:PT1H}") Duration ttl) {
+        this.exchangeRateProvider = exchangeRateProvider;
+        this.exchangeRateHistory = exchangeRateHistory;
+        this.taskExecutor = taskExecutor;
+        this.ttl = ttl;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reloadHistory();
+        refreshQuietly();
+    }
+
+    @Scheduled(initialDelayString = "${exchangeratesapi.ttl:PT1H}", fixedDelayString = "${exchangeratesapi.ttl:PT1H}")
+    public void scheduledRefresh() {
+        refreshQuietly();
+    }
+
+    public void refresh() {
+        Map<String, Double> quoted = exchangeRateProvider.fetchLatestRates();
+        Map<Currency, BigDecimal> rates = new EnumMap<>(Currency.class);
+        for (Currency currency : Currency.values()) {
+            Double rate = quoted.get(currency.getIsoCode());
+            if (rate != null && rate > 0) {
+                rates.put(currency, BigDecimal.valueOf(rate));
+            }
+        }
+        snapshot.set(ExchangeRateSnapshot.of(rates, quoted, Instant.now()));
+        log.info("Loaded exchange rates for {} currencies, {} of {} supported ones", quoted.size(), rates.size(),
+                Currency.values().length);
+
+        exchangeRateHistory.record(LocalDate.now(), rates);
+        reloadHistory();
+    }
+
+    /**
+     * Replaces the in-memory history with every stored rate, e.g. after a backfill.
+     * Refreshes also reload it, so days backfilled on another node show up within one TTL.
+     */
+    public void reloadHistory() {
+        HistoricalRates loaded = exchangeRateHistory.loadAll();
+        history.set(loaded);
+        log.debug("Loaded historical exchange rates into memory");
+    }
+
+    /**
+     * The in-memory history of daily rates, never read from the database on the request path
+     */
+    public HistoricalRates historicalRates() {
+        return history.get();
+    }
+
+    /**
+     * The current snapshot, starting a background refresh when it is older than the TTL
+     */
+    public ExchangeRateSnapshot snapshot() {
+        ExchangeRateSnapshot current = snapshot.get();
+        if (current.isOlderThan(ttl) && refreshing.compareAndSet(false, true)) {
+            taskExecutor.execute(() -> {
+                try {
+                    refreshQuietly();
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        }
+        return current;
+    }
+
+    /**
+     * How long the current snapshot stays fresh, zero once it has expired
+     */
+    public Duration remainingFreshness() {
+        Duration remaining = ttl.minus(Duration.between(snapshot.get().fetchedAt(), Instant.now()));
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    /**
+     * Rates to convert amounts at the rates of their date, over the in-memory history and the current snapshot
+     */
+    public DatedRates datedRates() {
+        return new DatedRates(history.get(), snapshot());
+    }
+
+    /**
+     * Converts an amount between currencies with the cached rates
+     * @return The converted amount rounded to cents
+     * @throws ExchangeRateUnavailableException if either rate has not been loaded
+     */
+    public BigDecimal convert(BigDecimal amount, Currency from, Currency to) {
+        return snapshot().convert(amount, from, to);
+    }
+
+    /**
+     * Converts an amount between currencies with the cached rates, without rounding
+     * @throws ExchangeRateUnavailableException if either rate has not been loaded
+     */
+    public double convert(double amount, Currency from, Currency to) {
+        return amount * snapshot().crossRate(from, to);
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("Exchange rates could not be refreshed, keeping the rates from {}: {}",
+                    snapshot.get().fetchedAt(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.serhat.expenseTracker.service.currency;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads rates from a local JSON file shaped like the API response ({@code {"rates": {"USD": 1.08, ...}}}),
+ * for tests and environments without access to the exchange rate API
+ */
+@Component
+@ConditionalOnProperty(name = "exchangeratesapi.provider", havingValue = "file")
+public class FileExchangeRateProvider implements ExchangeRateProvider {
+
+    private final Resource ratesFile;
+    private final ObjectMapper objectMapper;
+
+    public FileExchangeRateProvider(@Value("${exchangeratesapi.rates-file:classpath:exchange-rates.json}") Resource ratesFile,
+                                    ObjectMapper objectMapper) {
+        this.ratesFile = ratesFile;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Map<String, Double> fetchLatestRates() {
+        try (InputStream input = ratesFile.getInputStream()) {
+            Map<String, Double> result = new HashMap<>();
+            objectMapper.readTree(input).path("rates").properties().forEach(rate -> {
+                if (rate.getValue().isNumber()) {
+                    result.put(rate.getKey(), rate.getValue().doubleValue());
+                }
+            });
+            return result;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read exchange rates from " + ratesFile.getDescription(), e);
+        }
+    }
+}
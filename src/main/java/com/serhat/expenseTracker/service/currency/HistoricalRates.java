@@ -0,0 +1,102 @@
+package com.serhat.expenseTracker.service.currency;
+
+import com.serhat.expenseTracker.entity.ExchangeRate;
+import com.serhat.expenseTracker.entity.enums.Currency;
+import com.serhat.expenseTracker.exception.ExchangeRateUnavailableException;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable daily rates per one EUR, held per currency as epoch days sorted ascending with
+ * the matching rates. A date resolves to the rate of the closest day on or before it
+ * (weekends and holidays use the last published rate), or the first day after it when there is none.
+ */
+public final class HistoricalRates {
+    private static final MathContext RATE_PRECISION = MathContext.DECIMAL64;
+    private static final int AMOUNT_SCALE = 2;
+
+    private final long[][] epochDays;
+    private final BigDecimal[][] rates;
+
+    private HistoricalRates(long[][] epochDays, BigDecimal[][] rates) {
+        this.epochDays = epochDays;
+        this.rates = rates;
+    }
+
+    /**
+     * @param rows Rates in ascending date order
+     */
+    static HistoricalRates of(List<ExchangeRate> rows) {
+        int currencyCount = Currency.values().length;
+        int[] sizes = new int[currencyCount];
+        for (ExchangeRate row : rows) {
+            sizes[row.getCurrency().ordinal()]++;
+        }
+        long[][] epochDays = new long[currencyCount][];
+        BigDecimal[][] rates = new BigDecimal[currencyCount][];
+        for (int currency = 0; currency < currencyCount; currency++) {
+            epochDays[currency] = new long[sizes[currency]];
+            rates[currency] = new BigDecimal[sizes[currency]];
+        }
+        int[] filled = new int[currencyCount];
+        for (ExchangeRate row : rows) {
+            int currency = row.getCurrency().ordinal();
+            epochDays[currency][filled[currency]] = row.getRateDate().toEpochDay();
+            rates[currency][filled[currency]] = row.getRatePerEuro();
+            filled[currency]++;
+        }
+        return new HistoricalRates(epochDays, rates);
+    }
+
+    /**
+     * Whether any rate of the currency was loaded
+     */
+    boolean covers(Currency currency) {
+        return epochDays[currency.ordinal()].length > 0;
+    }
+
+    /**
+     * @throws ExchangeRateUnavailableException if no rate of the currency was loaded
+     */
+    public BigDecimal rate(Currency currency, LocalDate date) {
+        long[] days = epochDays[currency.ordinal()];
+        if (days.length == 0) {
+            throw new ExchangeRateUnavailableException("No historical exchange rate loaded for " + currency);
+        }
+        int index = Arrays.binarySearch(days, date.toEpochDay());
+        if (index < 0) {
+            int insertionPoint = -index - 1;
+            index = insertionPoint > 0 ? insertionPoint - 1 : 0;
+        }
+        return rates[currency.ordinal()][index];
+    }
+
+    /**
+     * Units of {@code to} per one unit of {@code from} at the rates of the given date
+     * @throws ExchangeRateUnavailableException if no rate of either currency was loaded
+     */
+    public double crossRate(Currency from, Currency to, LocalDate date) {
+        if (from == to) {
+            return 1.0;
+        }
+        return rate(to, date).doubleValue() / rate(from, date).doubleValue();
+    }
+
+    /**
+     * Converts an amount at the rates of the given date
+     * @return The converted amount rounded to cents
+     */
+    public BigDecimal convert(BigDecimal amount, Currency from, Currency to, LocalDate date) {
+        if (from == to || amount.signum() == 0) {
+            return amount;
+        }
+        return amount.multiply(rate(to, date), RATE_PRECISION)
+                .divide(rate(from, date), RATE_PRECISION)
+                .setScale(AMOUNT_SCALE, RoundingMode.HALF_EVEN);
+    }
+}
@@ -4,11 +4,15 @@ package com.serhat.expenseTracker.service.transaction;
 
 import com.serhat.expenseTracker.dto.objects.SummaryDto;
 import com.serhat.expenseTracker.dto.objects.TransactionDto;
+import com.serhat.expenseTracker.dto.objects.TrendBucketDto;
 import com.serhat.expenseTracker.dto.requests.TransactionRequest;
 import com.serhat.expenseTracker.dto.requests.UpdateTransactionRequest;
+import com.serhat.expenseTracker.dto.responses.BalanceSeriesResponse;
+import com.serhat.expenseTracker.dto.responses.TransactionPageResponse;
 import com.serhat.expenseTracker.entity.enums.Category;
 import com.serhat.expenseTracker.entity.enums.Currency;
 import com.serhat.expenseTracker.entity.enums.Status;
+import com.serhat.expenseTracker.service.transaction.summary.TrendGranularity;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -18,14 +22,18 @@ public interface TransactionService {
     TransactionDto updateTransaction(Long transactionId,UpdateTransactionRequest request);
     TransactionDto createTransaction(TransactionRequest transactionRequest);
     TransactionDto findTransactionById(Long transactionId);
-    SummaryDto getSummaryByYearAndMonth(int year, int month);
-    SummaryDto getSummaryByYear(int year);
-    List<TransactionDto> findTransactionsByFilters(
+    SummaryDto getSummaryByYearAndMonth(int year, int month, Currency currency);
+    SummaryDto getSummaryByYear(int year, Currency currency);
+    List<TrendBucketDto> getTrend(String from, String to, TrendGranularity granularity, Currency currency);
+    BalanceSeriesResponse getBalanceSeries(LocalDate startDate, LocalDate endDate, Currency currency);
+    TransactionPageResponse findTransactionsByFilters(
             Integer year,
             Integer month,
             Category category,
             Status status,
             Currency currency,
-            LocalDate date
+            LocalDate date,
+            String cursor,
+            Integer size
     );
 }
\ No newline at end of file
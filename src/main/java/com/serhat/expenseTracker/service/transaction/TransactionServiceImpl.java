@@ -1,63 +1,87 @@
 package com.serhat.expenseTracker.service.transaction;
 
-import com.serhat.expenseTracker.dto.objects.CategoryExpensesDto;
 import com.serhat.expenseTracker.dto.objects.SummaryDto;
 import com.serhat.expenseTracker.dto.objects.TransactionDto;
+import com.serhat.expenseTracker.dto.objects.TrendBucketDto;
 import com.serhat.expenseTracker.dto.requests.TransactionRequest;
 import com.serhat.expenseTracker.dto.requests.UpdateTransactionRequest;
+import com.serhat.expenseTracker.dto.responses.BalanceSeriesResponse;
+import com.serhat.expenseTracker.dto.responses.TransactionPageResponse;
 import com.serhat.expenseTracker.entity.AppUser;
 import com.serhat.expenseTracker.entity.Transaction;
 import com.serhat.expenseTracker.entity.enums.Category;
 import com.serhat.expenseTracker.entity.enums.Currency;
 import com.serhat.expenseTracker.entity.enums.Status;
 import com.serhat.expenseTracker.exception.ExpenseNotFoundException;
+import com.serhat.expenseTracker.exception.InvalidPeriodException;
 import com.serhat.expenseTracker.mapper.TransactionMapper;
 import com.serhat.expenseTracker.repository.TransactionRepository;
+import com.serhat.expenseTracker.repository.specification.TransactionCursor;
+import com.serhat.expenseTracker.repository.specification.TransactionSpecifications;
+import com.serhat.expenseTracker.service.transaction.recurring.RecurringOccurrenceExpander;
+import com.serhat.expenseTracker.service.transaction.recurring.RecurringSeriesStatistics;
+import com.serhat.expenseTracker.service.transaction.recurring.RecurringTransactionService;
+import com.serhat.expenseTracker.service.transaction.recurring.RuleOccurrenceId;
+import com.serhat.expenseTracker.service.transaction.rollup.MonthlyRollupService;
+import com.serhat.expenseTracker.service.transaction.rollup.RollupEntry;
+import com.serhat.expenseTracker.service.transaction.summary.SummaryEngine;
+import com.serhat.expenseTracker.service.transaction.summary.TrendGranularity;
 import com.serhat.expenseTracker.service.user.CurrentUserHolder;
-import com.serhat.expenseTracker.service.user.UserService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class TransactionServiceImpl implements TransactionService {
     private static final Logger logger = LoggerFactory.getLogger(TransactionServiceImpl.class);
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_TREND_MONTHS = 240;
+    private static final int MAX_BALANCE_DAYS = 3660;
+    private static final Sort KEYSET_ORDER = Sort.by(Sort.Direction.DESC, "date", "transactionId");
+    private static final Comparator<Transaction> KEYSET_COMPARATOR = RecurringOccurrenceExpander.CHRONOLOGICAL.reversed();
 
     private final TransactionRepository transactionRepository;
     private final TransactionMapper transactionMapper;
     private final CurrentUserHolder currentUserHolder;
-    private final UserService userService;
+    private final SummaryEngine summaryEngine;
+    private final MonthlyRollupService monthlyRollupService;
+    private final RecurringOccurrenceExpander recurringOccurrenceExpander;
+    private final RecurringTransactionService recurringTransactionService;
+    private final RecurringSeriesStatistics recurringSeriesStatistics;
 
     private AppUser getCurrentUser() {
         return currentUserHolder.getCurrentUser();
     }
 
-    private List<Transaction> findExpensesByDateRange(AppUser user, LocalDate startDate, LocalDate endDate) {
-        logger.debug("Finding expenses between {} and {}", startDate, endDate);
-        return transactionRepository.findByUserAndDateBetween(user, startDate, endDate);
-    }
-
-    private List<Transaction> filterExpenses(List<Transaction> expenses, Category category, Status status, Currency currency, LocalDate date) {
-        return expenses.stream()
-                .filter(t -> category == null || t.getCategory() == category)
-                .filter(t -> status == null || t.getStatus() == status)
-                .filter(t -> currency == null || t.getCurrency() == currency)
-                .filter(t -> date == null || t.getDate().equals(date))
-                .toList();
+    private int resolvePageSize(Integer size) {
+        if (size == null || size < 1) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
     }
 
     @Override
+    @Transactional
     public String deleteTransaction(Long transactionId) {
         logger.info("Deleting transaction with ID={}", transactionId);
+        if (RuleOccurrenceId.isSynthetic(transactionId)) {
+            return recurringTransactionService.skipOccurrence(transactionId);
+        }
         AppUser user = getCurrentUser();
         Transaction transaction = transactionRepository.findByUserAndTransactionId(user, transactionId)
                 .orElseThrow(() -> {
@@ -66,16 +90,24 @@ public class TransactionServiceImpl implements TransactionService {
                 });
 
         transactionRepository.delete(transaction);
+        monthlyRollupService.remove(List.of(transaction));
+        if (transaction.getSeries() != null) {
+            recurringSeriesStatistics.refresh(transaction.getSeries());
+        }
         logger.info("Transaction deleted: ID={}", transactionId);
         return "Transaction deleted successfully.";
     }
 
     @Override
+    @Transactional
     public TransactionDto updateTransaction(Long transactionId, UpdateTransactionRequest request) {
         logger.info("Updating transaction: ID={}", transactionId);
         if (transactionId == null) {
             throw new IllegalArgumentException("Transaction ID cannot be null");
         }
+        if (RuleOccurrenceId.isSynthetic(transactionId)) {
+            return recurringTransactionService.updateOccurrence(transactionId, request);
+        }
 
         AppUser user = getCurrentUser();
         Transaction transaction = transactionRepository.findByUserAndTransactionId(user, transactionId)
@@ -83,6 +115,7 @@ public class TransactionServiceImpl implements TransactionService {
                     logger.error("Transaction not found: ID={}", transactionId);
                     return new ExpenseNotFoundException("Transaction not found by id: " + transactionId);
                 });
+        RollupEntry previous = RollupEntry.of(transaction);
 
         updateIfNotNull(transaction::setAmount, request.amount(), "amount", transaction.getAmount());
         updateIfNotNull(transaction::setCurrency, request.currency(), "currency", transaction.getCurrency());
@@ -92,6 +125,10 @@ public class TransactionServiceImpl implements TransactionService {
         updateIfNotNull(transaction::setDate, request.date(), "date", transaction.getDate());
 
         Transaction savedTransaction = transactionRepository.save(transaction);
+        monthlyRollupService.replace(previous, savedTransaction);
+        if (savedTransaction.getSeries() != null) {
+            recurringSeriesStatistics.refresh(savedTransaction.getSeries());
+        }
         return transactionMapper.toTransactionDto(savedTransaction);
     }
 
@@ -102,12 +139,14 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     @Override
+    @Transactional
     public TransactionDto createTransaction(TransactionRequest request) {
         logger.info("Creating new transaction");
         AppUser user = getCurrentUser();
 
-        Transaction transaction = transactionMapper.toTransaction(request, user);
+        Transaction transaction = transactionMapper.toTransaction(request, user, currentUserHolder.getFavoriteCurrency());
         Transaction savedTransaction = transactionRepository.save(transaction);
+        monthlyRollupService.add(List.of(savedTransaction));
 
         logger.info("Transaction created: ID={}", savedTransaction.getTransactionId());
         return transactionMapper.toTransactionDto(savedTransaction);
@@ -116,6 +155,11 @@ public class TransactionServiceImpl implements TransactionService {
     @Override
     public TransactionDto findTransactionById(Long transactionId) {
         AppUser user = getCurrentUser();
+        if (RuleOccurrenceId.isSynthetic(transactionId)) {
+            return recurringOccurrenceExpander.find(user, transactionId)
+                    .map(transactionMapper::toTransactionDto)
+                    .orElseThrow(() -> new ExpenseNotFoundException("Transaction not found for user with id: " + transactionId));
+        }
         Transaction transaction = transactionRepository.findByUserAndTransactionId(user, transactionId)
                 .orElseThrow(() -> {
                     logger.error("Transaction not found: ID={}", transactionId);
@@ -125,70 +169,56 @@ public class TransactionServiceImpl implements TransactionService {
         return transactionMapper.toTransactionDto(transaction);
     }
 
-    private SummaryDto getSummary(AppUser user, LocalDate startDate, LocalDate endDate,
-                                  BigDecimal totalIncome, BigDecimal totalOutgoings, BigDecimal totalBudget) {
-        List<Transaction> transactions = findExpensesByDateRange(user, startDate, endDate);
-        Map<Category, List<CategoryExpensesDto>> groupedExpenses = groupExpensesByCategoryAndStatus(transactions);
-
-        return new SummaryDto(totalIncome, totalOutgoings, totalBudget, groupedExpenses);
+    @Override
+    public SummaryDto getSummaryByYearAndMonth(int year, int month, Currency currency) {
+        logger.info("Getting summary for year={}, month={} in {}", year, month, currency);
+        return summaryEngine.summarizeMonth(getCurrentUser(), year, month, currency);
     }
 
-    private Map<Category, List<CategoryExpensesDto>> groupExpensesByCategoryAndStatus(List<Transaction> transactions) {
-        return transactions.stream()
-                .collect(Collectors.groupingBy(
-                        Transaction::getCategory,
-                        Collectors.mapping(
-                                t -> {
-                                    BigDecimal total = t.getAmount();
-                                    return new CategoryExpensesDto(1, total, t.getStatus());
-                                },
-                                Collectors.collectingAndThen(
-                                        Collectors.groupingBy(CategoryExpensesDto::status),
-                                        statusMap -> statusMap.entrySet().stream()
-                                                .map(entry -> new CategoryExpensesDto(
-                                                        entry.getValue().size(),
-                                                        entry.getValue().stream()
-                                                                .map(CategoryExpensesDto::totalAmount)
-                                                                .reduce(BigDecimal.ZERO, BigDecimal::add),
-                                                        entry.getKey()
-                                                ))
-                                                .toList()
-                                )
-                        )
-                ));
+    @Override
+    public SummaryDto getSummaryByYear(int year, Currency currency) {
+        logger.info("Getting summary for year={} in {}", year, currency);
+        return summaryEngine.summarizeYear(getCurrentUser(), year, currency);
     }
 
     @Override
-    public SummaryDto getSummaryByYearAndMonth(int year, int month) {
-        logger.info("Getting summary for year={}, month={}", year, month);
-        AppUser user = getCurrentUser();
-        LocalDate startDate = LocalDate.of(year, month, 1);
-        LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
-
-        BigDecimal totalIncome = userService.getIncomeByYearAndMonth(year, month);
-        BigDecimal totalOutgoings = userService.getOutgoingsByYearAndMonth(year, month);
-        BigDecimal totalBudget = userService.getBudgetStatusByYearAndMonth(year, month);
-
-        return getSummary(user, startDate, endDate, totalIncome, totalOutgoings, totalBudget);
+    public List<TrendBucketDto> getTrend(String from, String to, TrendGranularity granularity, Currency currency) {
+        logger.info("Getting trend from={} to={} by {}", from, to, granularity);
+        YearMonth fromMonth = parseMonth(from);
+        YearMonth toMonth = parseMonth(to);
+        if (toMonth.isBefore(fromMonth)) {
+            throw new InvalidPeriodException("Trend end " + to + " is before its start " + from);
+        }
+        if (fromMonth.until(toMonth, ChronoUnit.MONTHS) >= MAX_TREND_MONTHS) {
+            throw new InvalidPeriodException("Trend cannot span more than " + MAX_TREND_MONTHS + " months");
+        }
+        return summaryEngine.trend(getCurrentUser(), fromMonth, toMonth, granularity, currency);
     }
 
     @Override
-    public SummaryDto getSummaryByYear(int year) {
-        logger.info("Getting summary for year={}", year);
-        AppUser user = getCurrentUser();
-        LocalDate startDate = LocalDate.of(year, 1, 1);
-        LocalDate endDate = LocalDate.of(year, 12, 31);
-
-        BigDecimal totalIncome = userService.getAnnualIncome(year);
-        BigDecimal totalOutgoings = userService.getAnnualOutgoings(year);
-        BigDecimal totalBudget = userService.getAnnualBudget(year);
+    public BalanceSeriesResponse getBalanceSeries(LocalDate startDate, LocalDate endDate, Currency currency) {
+        logger.info("Getting balance series from={} to={} currency={}", startDate, endDate, currency);
+        if (endDate.isBefore(startDate)) {
+            throw new InvalidPeriodException("Balance series end " + endDate + " is before its start " + startDate);
+        }
+        if (startDate.until(endDate, ChronoUnit.DAYS) >= MAX_BALANCE_DAYS) {
+            throw new InvalidPeriodException("Balance series cannot span more than " + MAX_BALANCE_DAYS + " days");
+        }
+        return summaryEngine.balanceSeries(getCurrentUser(), startDate, endDate, currency);
+    }
 
-        return getSummary(user, startDate, endDate, totalIncome, totalOutgoings, totalBudget);
+    private YearMonth parseMonth(String month) {
+        try {
+            return YearMonth.parse(month);
+        } catch (DateTimeParseException e) {
+            throw new InvalidPeriodException("Expected a month as YYYY-MM: " + month);
+        }
     }
 
     @Override
-    public List<TransactionDto> findTransactionsByFilters(Integer year, Integer month, Category category,
-                                                          Status status, Currency currency, LocalDate date) {
+    public TransactionPageResponse findTransactionsByFilters(Integer year, Integer month, Category category,
+                                                             Status status, Currency currency, LocalDate date,
+                                                             String cursor, Integer size) {
         logger.info("Finding transactions with filters: year={}, month={}, category={}", year, month, category);
         AppUser user = getCurrentUser();
 
@@ -200,14 +230,41 @@ public class TransactionServiceImpl implements TransactionService {
             startDate = LocalDate.of(year, 1, 1);
             endDate = LocalDate.of(year, 12, 31);
         } else {
-            startDate = LocalDate.of(1970, 1, 1);
+            startDate = null;
             endDate = LocalDate.now();
         }
 
-        List<Transaction> transactions = findExpensesByDateRange(user, startDate, endDate);
-        return filterExpenses(transactions, category, status, currency, date)
-                .stream()
-                .map(transactionMapper::toTransactionDto)
-                .toList();
+        int pageSize = resolvePageSize(size);
+        TransactionCursor after = cursor != null ? TransactionCursor.decode(cursor) : null;
+        Specification<Transaction> specification = Specification.where(TransactionSpecifications.belongsTo(user))
+                .and(TransactionSpecifications.dateFrom(startDate))
+                .and(TransactionSpecifications.dateUntil(endDate))
+                .and(TransactionSpecifications.onDate(date))
+                .and(TransactionSpecifications.hasCategory(category))
+                .and(TransactionSpecifications.hasStatus(status))
+                .and(TransactionSpecifications.hasCurrency(currency))
+                .and(TransactionSpecifications.after(after));
+
+        List<Transaction> transactions = new ArrayList<>(transactionRepository.findBy(specification, query -> query
+                .sortBy(KEYSET_ORDER)
+                .limit(pageSize + 1)
+                .all()));
+
+        LocalDate occurrencesFrom = date != null && (startDate == null || date.isAfter(startDate)) ? date : startDate;
+        LocalDate occurrencesUntil = date != null && date.isBefore(endDate) ? date : endDate;
+        transactions.addAll(recurringOccurrenceExpander.expandPage(user, occurrencesFrom, occurrencesUntil, after,
+                category, status, currency, pageSize + 1));
+        transactions.sort(KEYSET_COMPARATOR);
+        if (transactions.size() > pageSize + 1) {
+            transactions = transactions.subList(0, pageSize + 1);
+        }
+
+        boolean hasNext = transactions.size() > pageSize;
+        List<Transaction> page = hasNext ? transactions.subList(0, pageSize) : transactions;
+        String next = hasNext ? TransactionCursor.after(page.get(page.size() - 1)).encode() : null;
+
+        return new TransactionPageResponse(
+                page.stream().map(transactionMapper::toTransactionDto).toList(),
+                next);
     }
-}
\ No newline at end of file
+}
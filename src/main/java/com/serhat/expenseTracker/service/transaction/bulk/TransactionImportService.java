@@ -0,0 +1,240 @@
+package com.serhat.expenseTracker.service.transaction.bulk;
+
+import com.serhat.expenseTracker.dto.requests.TransactionRequest;
+import com.serhat.expenseTracker.dto.responses.ImportResultResponse;
+import com.serhat.expenseTracker.entity.AppUser;
+import com.serhat.expenseTracker.entity.Transaction;
+import com.serhat.expenseTracker.entity.enums.Category;
+import com.serhat.expenseTracker.entity.enums.Currency;
+import com.serhat.expenseTracker.entity.enums.Status;
+import com.serhat.expenseTracker.entity.enums.TransactionType;
+import com.serhat.expenseTracker.exception.InvalidImportFileException;
+import com.serhat.expenseTracker.mapper.TransactionMapper;
+import com.serhat.expenseTracker.repository.TransactionRepository;
+import com.serhat.expenseTracker.service.transaction.rollup.MonthlyRollupService;
+import com.serhat.expenseTracker.service.user.CurrentUserHolder;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Imports one-time transactions from a CSV file with a header row.
+ * Rows are parsed while the upload is read, validated against the {@link TransactionRequest}
+ * constraints and inserted through JDBC batches; invalid rows are reported instead of failing the import.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionImportService {
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_REPORTED_REJECTIONS = 100;
+    private static final DateTimeFormatter REQUEST_DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    private static final List<String> REQUIRED_COLUMNS = List.of("amount", "status");
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionMapper transactionMapper;
+    private final MonthlyRollupService monthlyRollupService;
+    private final CurrentUserHolder currentUserHolder;
+    private final Validator validator;
+    private final EntityManager entityManager;
+
+    @Transactional
+    public ImportResultResponse importCsv(MultipartFile file) {
+        AppUser user = currentUserHolder.getCurrentUser();
+        Currency favoriteCurrency = currentUserHolder.getFavoriteCurrency();
+        log.info("Importing transactions for user ID: {} from file: {}", user.getUserId(), file.getOriginalFilename());
+        long startedAt = System.nanoTime();
+
+        List<Transaction> batch = new ArrayList<>(BATCH_SIZE);
+        List<ImportResultResponse.RejectedRow> rejections = new ArrayList<>();
+        int accepted = 0;
+        int rejected = 0;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            String header = reader.readLine();
+            if (header == null) {
+                throw new InvalidImportFileException("Import file is empty");
+            }
+            Map<String, Integer> columns = parseHeader(header);
+
+            String line;
+            long lineNumber = 1;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                String rejection;
+                try {
+                    TransactionRequest request = toRequest(splitLine(line), columns);
+                    rejection = validate(request);
+                    if (rejection == null) {
+                        Transaction transaction = transactionMapper.toTransaction(request, user, favoriteCurrency);
+                        if (transaction.getCurrency() == null) {
+                            rejection = "Currency cannot be empty";
+                        } else {
+                            batch.add(transaction);
+                            accepted++;
+                            if (batch.size() == BATCH_SIZE) {
+                                flushBatch(batch);
+                            }
+                        }
+                    }
+                } catch (IllegalArgumentException | DateTimeParseException e) {
+                    rejection = e.getMessage();
+                }
+                if (rejection != null) {
+                    rejected++;
+                    if (rejections.size() < MAX_REPORTED_REJECTIONS) {
+                        rejections.add(new ImportResultResponse.RejectedRow(lineNumber, rejection));
+                    }
+                }
+            }
+            flushBatch(batch);
+        } catch (IOException e) {
+            log.error("Error reading import file: {}", e.getMessage(), e);
+            throw new InvalidImportFileException("Import file could not be read");
+        }
+
+        log.info("Imported {} transactions ({} rejected) for user ID: {} in {} ms",
+                accepted, rejected, user.getUserId(), (System.nanoTime() - startedAt) / 1_000_000);
+        return new ImportResultResponse(accepted, rejected, rejections);
+    }
+
+    private void flushBatch(List<Transaction> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        transactionRepository.saveAll(batch);
+        monthlyRollupService.add(batch);
+        entityManager.flush();
+        entityManager.clear();
+        batch.clear();
+    }
+
+    private Map<String, Integer> parseHeader(String header) {
+        List<String> names = splitLine(header);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String required : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(required)) {
+                throw new InvalidImportFileException("Import file is missing the '" + required + "' column");
+            }
+        }
+        return columns;
+    }
+
+    private TransactionRequest toRequest(List<String> values, Map<String, Integer> columns) {
+        String amount = value(values, columns, "amount");
+        String date = value(values, columns, "date");
+        return new TransactionRequest(
+                amount != null ? parseAmount(amount) : null,
+                date != null ? parseDate(date) : null,
+                parseEnum(Category.class, value(values, columns, "category"), "category"),
+                parseEnum(Status.class, value(values, columns, "status"), "status"),
+                TransactionType.ONE_TIME,
+                value(values, columns, "description"),
+                parseEnum(Currency.class, value(values, columns, "currency"), "currency")
+        );
+    }
+
+    private String validate(TransactionRequest request) {
+        Set<ConstraintViolation<TransactionRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private String value(List<String> values, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private BigDecimal parseAmount(String value) {
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid amount: " + value);
+        }
+    }
+
+    private LocalDate parseDate(String value) {
+        if (value.length() == 10 && value.charAt(4) == '-') {
+            return LocalDate.parse(value);
+        }
+        return LocalDate.parse(value, REQUEST_DATE_FORMAT);
+    }
+
+    private <E extends Enum<E>> E parseEnum(Class<E> type, String value, String column) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + column + ": " + value);
+        }
+    }
+
+    /**
+     * Splits one CSV line, honouring double-quoted fields and escaped quotes
+     */
+    private List<String> splitLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+}
@@ -0,0 +1,140 @@
+package com.serhat.expenseTracker.service.transaction.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.serhat.expenseTracker.dto.objects.TransactionDto;
+import com.serhat.expenseTracker.entity.AppUser;
+import com.serhat.expenseTracker.entity.Transaction;
+import com.serhat.expenseTracker.mapper.TransactionMapper;
+import com.serhat.expenseTracker.repository.TransactionRepository;
+import com.serhat.expenseTracker.service.transaction.recurring.RecurringOccurrenceExpander;
+import com.serhat.expenseTracker.service.user.CurrentUserHolder;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streams a user's transactions straight from a database cursor to the response.
+ * Rows are mapped, written and detached one at a time, so memory stays flat
+ * regardless of how many transactions are exported. Occurrences of rule-based recurring series
+ * are generated for the range and merged into the stream in date order.
+ */
+@Service
+@Slf4j
+public class TransactionExportService {
+    private static final String CSV_HEADER =
+            "transactionId,date,amount,currency,category,status,type,description,recurringSeriesId";
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionMapper transactionMapper;
+    private final CurrentUserHolder currentUserHolder;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final RecurringOccurrenceExpander recurringOccurrenceExpander;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public TransactionExportService(TransactionRepository transactionRepository,
+                                    TransactionMapper transactionMapper,
+                                    CurrentUserHolder currentUserHolder,
+                                    EntityManager entityManager,
+                                    ObjectMapper objectMapper,
+                                    RecurringOccurrenceExpander recurringOccurrenceExpander,
+                                    PlatformTransactionManager transactionManager) {
+        this.transactionRepository = transactionRepository;
+        this.transactionMapper = transactionMapper;
+        this.currentUserHolder = currentUserHolder;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.recurringOccurrenceExpander = recurringOccurrenceExpander;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Prepares an export of the current user's transactions dated between the given dates (inclusive).
+     * The user is resolved on the calling request thread; the rows are read when the body is written.
+     */
+    public StreamingResponseBody export(LocalDate startDate, LocalDate endDate, ExportFormat format) {
+        AppUser user = currentUserHolder.getCurrentUser();
+        log.info("Exporting transactions of user ID: {} between {} and {} as {}", user.getUserId(), startDate, endDate, format);
+
+        return outputStream -> readOnlyTransaction.executeWithoutResult(status -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            try (Stream<Transaction> transactions = transactionRepository.streamByUserAndDateBetween(user, startDate, endDate)) {
+                if (format == ExportFormat.CSV) {
+                    writer.write(CSV_HEADER);
+                    writer.write('\n');
+                }
+                Iterator<Transaction> stored = transactions.iterator();
+                Iterator<Transaction> generated = recurringOccurrenceExpander.expand(user, startDate, endDate).iterator();
+                Transaction nextStored = stored.hasNext() ? stored.next() : null;
+                Transaction nextGenerated = generated.hasNext() ? generated.next() : null;
+                long count = 0;
+                while (nextStored != null || nextGenerated != null) {
+                    if (nextGenerated == null
+                            || (nextStored != null && RecurringOccurrenceExpander.CHRONOLOGICAL.compare(nextStored, nextGenerated) <= 0)) {
+                        writeRow(writer, transactionMapper.toTransactionDto(nextStored), format);
+                        entityManager.detach(nextStored);
+                        nextStored = stored.hasNext() ? stored.next() : null;
+                    } else {
+                        writeRow(writer, transactionMapper.toTransactionDto(nextGenerated), format);
+                        nextGenerated = generated.hasNext() ? generated.next() : null;
+                    }
+                    count++;
+                }
+                writer.flush();
+                log.info("Exported {} transactions of user ID: {}", count, user.getUserId());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write transaction export", e);
+            }
+        });
+    }
+
+    private void writeRow(Writer writer, TransactionDto transaction, ExportFormat format) throws IOException {
+        if (format == ExportFormat.NDJSON) {
+            writer.write(objectMapper.writeValueAsString(transaction));
+        } else {
+            writer.write(String.valueOf(transaction.transactionId()));
+            writer.write(',');
+            writer.write(String.valueOf(transaction.date()));
+            writer.write(',');
+            writer.write(transaction.amount() != null ? transaction.amount().toPlainString() : "");
+            writer.write(',');
+            writer.write(csvValue(transaction.currency()));
+            writer.write(',');
+            writer.write(csvValue(transaction.category()));
+            writer.write(',');
+            writer.write(csvValue(transaction.status()));
+            writer.write(',');
+            writer.write(csvValue(transaction.type()));
+            writer.write(',');
+            writer.write(csvValue(transaction.description()));
+            writer.write(',');
+            writer.write(csvValue(transaction.recurringSeriesId()));
+        }
+        writer.write('\n');
+    }
+
+    private String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
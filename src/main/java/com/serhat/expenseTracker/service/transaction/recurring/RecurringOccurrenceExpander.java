@@ -0,0 +1,268 @@
+package com.serhat.expenseTracker.service.transaction.recurring;
+
+import com.serhat.expenseTracker.entity.AppUser;
+import com.serhat.expenseTracker.entity.RecurringOccurrenceOverride;
+import com.serhat.expenseTracker.entity.RecurringSeries;
+import com.serhat.expenseTracker.entity.Transaction;
+import com.serhat.expenseTracker.entity.enums.Category;
+import com.serhat.expenseTracker.entity.enums.Currency;
+import com.serhat.expenseTracker.entity.enums.RecurringStorageMode;
+import com.serhat.expenseTracker.entity.enums.Status;
+import com.serhat.expenseTracker.entity.enums.TransactionType;
+import com.serhat.expenseTracker.repository.RecurringOccurrenceOverrideRepository;
+import com.serhat.expenseTracker.repository.RecurringSeriesRepository;
+import com.serhat.expenseTracker.repository.specification.TransactionCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Generates the occurrences of rule-based recurring series on the fly.
+ * Generated transactions are never persisted; they carry a {@link RuleOccurrenceId} as their id
+ * and reflect any per-occurrence override stored for them.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RecurringOccurrenceExpander {
+    public static final Comparator<Transaction> CHRONOLOGICAL =
+            Comparator.comparing(Transaction::getDate).thenComparing(Transaction::getTransactionId);
+
+    private final RecurringSeriesRepository recurringSeriesRepository;
+    private final RecurringOccurrenceOverrideRepository overrideRepository;
+
+    /**
+     * Generates the occurrences of the user's rule-based series dated between the given dates (inclusive)
+     * @param startDate First date, or null for no lower bound
+     * @param endDate Last date
+     * @return Occurrences in chronological order
+     */
+    public List<Transaction> expand(AppUser user, LocalDate startDate, LocalDate endDate) {
+        int fromMonth = startDate != null ? monthKey(startDate) : Integer.MIN_VALUE;
+        int toMonth = monthKey(endDate);
+        List<RecurringSeries> rules = recurringSeriesRepository.findOverlapping(
+                user, RecurringStorageMode.RULE, fromMonth, toMonth);
+        if (rules.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Map<Integer, RecurringOccurrenceOverride>> overrides = new HashMap<>();
+        for (RecurringOccurrenceOverride override : overrideRepository.findBySeriesIn(rules)) {
+            overrides.computeIfAbsent(override.getSeries().getId(), id -> new HashMap<>())
+                    .put(override.getOccurrenceIndex(), override);
+        }
+
+        List<Transaction> occurrences = new ArrayList<>();
+        for (RecurringSeries series : rules) {
+            int seriesStart = startMonthKey(series);
+            int first = startDate != null ? Math.max(0, fromMonth - seriesStart) : 0;
+            int last = Math.min(occurrenceCount(series) - 1, toMonth - seriesStart);
+            Map<Integer, RecurringOccurrenceOverride> seriesOverrides = overrides.getOrDefault(series.getId(), Map.of());
+            for (int index = first; index <= last; index++) {
+                Transaction occurrence = occurrence(user, series, index, seriesOverrides.get(index));
+                if (occurrence != null
+                        && (startDate == null || !occurrence.getDate().isBefore(startDate))
+                        && !occurrence.getDate().isAfter(endDate)) {
+                    occurrences.add(occurrence);
+                }
+            }
+        }
+        occurrences.sort(CHRONOLOGICAL);
+        log.debug("Expanded {} occurrences from {} recurring rules between {} and {}",
+                occurrences.size(), rules.size(), startDate, endDate);
+        return occurrences;
+    }
+
+    /**
+     * Generates at most {@code limit} of the user's rule-based occurrences that come after the cursor in
+     * (date, transactionId) descending order, dated between the given dates and matching the given attributes.
+     * Scheduled occurrences are walked backwards from the cursor, so a deep page costs the same as the first one;
+     * occurrences with an override are checked individually.
+     * @param startDate First date, or null for no lower bound
+     * @param endDate Last date
+     * @param after Cursor of the previous page, or null for the first page
+     * @param category Required category, or null for any
+     * @param status Required status, or null for any
+     * @param currency Required currency, or null for any
+     * @return Up to {@code limit} occurrences of each series, in no particular order
+     */
+    public List<Transaction> expandPage(AppUser user, LocalDate startDate, LocalDate endDate, TransactionCursor after,
+                                        Category category, Status status, Currency currency, int limit) {
+        LocalDate upperDate = after != null && after.date().isBefore(endDate) ? after.date() : endDate;
+        if (startDate != null && startDate.isAfter(upperDate)) {
+            return List.of();
+        }
+        int fromMonth = startDate != null ? monthKey(startDate) : Integer.MIN_VALUE;
+        List<RecurringSeries> rules = recurringSeriesRepository.findOverlapping(
+                user, RecurringStorageMode.RULE, fromMonth, monthKey(upperDate));
+        if (rules.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Map<Integer, RecurringOccurrenceOverride>> overrides = new HashMap<>();
+        for (RecurringOccurrenceOverride override : overrideRepository.findBySeriesIn(rules)) {
+            overrides.computeIfAbsent(override.getSeries().getId(), id -> new HashMap<>())
+                    .put(override.getOccurrenceIndex(), override);
+        }
+
+        Predicate<Transaction> matches = occurrence -> (startDate == null || !occurrence.getDate().isBefore(startDate))
+                && !occurrence.getDate().isAfter(endDate)
+                && (after == null || isAfter(occurrence, after))
+                && (category == null || occurrence.getCategory() == category)
+                && (status == null || occurrence.getStatus() == status)
+                && (currency == null || occurrence.getCurrency() == currency);
+
+        List<Transaction> occurrences = new ArrayList<>();
+        for (RecurringSeries series : rules) {
+            Map<Integer, RecurringOccurrenceOverride> seriesOverrides = overrides.getOrDefault(series.getId(), Map.of());
+            int count = occurrenceCount(series);
+            seriesOverrides.forEach((index, override) -> {
+                if (index < count) {
+                    Transaction occurrence = occurrence(user, series, index, override);
+                    if (occurrence != null && matches.test(occurrence)) {
+                        occurrences.add(occurrence);
+                    }
+                }
+            });
+
+            // occurrences without an override share the attributes of the series and their dates fall with the index
+            if ((category != null && series.getCategory() != category)
+                    || (status != null && series.getStatus() != status)
+                    || (currency != null && series.getCurrency() != currency)) {
+                continue;
+            }
+            int seriesStart = startMonthKey(series);
+            int first = startDate != null ? Math.max(0, fromMonth - seriesStart) : 0;
+            int found = 0;
+            for (int index = Math.min(count - 1, monthKey(upperDate) - seriesStart); index >= first && found < limit; index--) {
+                if (seriesOverrides.containsKey(index)) {
+                    continue;
+                }
+                Transaction occurrence = occurrence(user, series, index, null);
+                if (matches.test(occurrence)) {
+                    occurrences.add(occurrence);
+                    found++;
+                } else if (startDate != null && occurrence.getDate().isBefore(startDate)) {
+                    break;
+                }
+            }
+        }
+        log.debug("Expanded {} occurrences from {} recurring rules for a page after {}", occurrences.size(), rules.size(), after);
+        return occurrences;
+    }
+
+    private static boolean isAfter(Transaction occurrence, TransactionCursor cursor) {
+        int byDate = occurrence.getDate().compareTo(cursor.date());
+        return byDate < 0 || (byDate == 0 && occurrence.getTransactionId() < cursor.transactionId());
+    }
+
+    /**
+     * Generates a single occurrence from its synthetic id, unless it was skipped or does not belong to the user
+     */
+    public Optional<Transaction> find(AppUser user, long transactionId) {
+        RuleOccurrenceId id = RuleOccurrenceId.decode(transactionId);
+        return recurringSeriesRepository.findByIdAndUser(id.seriesId(), user)
+                .filter(series -> series.getStorageMode() == RecurringStorageMode.RULE)
+                .filter(series -> id.occurrenceIndex() < occurrenceCount(series))
+                .map(series -> occurrence(user, series, id.occurrenceIndex(),
+                        overrideRepository.findBySeriesAndOccurrenceIndex(series, id.occurrenceIndex()).orElse(null)));
+    }
+
+    /**
+     * The first scheduled occurrence of a series, ignoring overrides
+     */
+    public Transaction firstOccurrence(RecurringSeries series) {
+        return occurrence(series.getUser(), series, 0, null);
+    }
+
+    public static int occurrenceCount(RecurringSeries series) {
+        return series.getEndYear() * 12 + series.getEndMonth() - startMonthKey(series) + 1;
+    }
+
+    public static LocalDate scheduledDate(RecurringSeries series, int occurrenceIndex) {
+        LocalDate month = LocalDate.of(series.getStartYear(), series.getStartMonth(), 1).plusMonths(occurrenceIndex);
+        return month.withDayOfMonth(Math.min(series.getDayOfMonth(), month.lengthOfMonth()));
+    }
+
+    /**
+     * First date on or after the given date the schedule of a series falls on, ignoring overrides
+     * @return The date, or null once the series has ended
+     */
+    public static LocalDate nextScheduledDate(RecurringSeries series, LocalDate fromDate) {
+        int index = nextScheduledIndex(series, fromDate);
+        return index < occurrenceCount(series) ? scheduledDate(series, index) : null;
+    }
+
+    /**
+     * Index of the first occurrence scheduled on or after the given date, ignoring overrides
+     * @return The index, at least {@link #occurrenceCount} once the series has ended
+     */
+    public static int nextScheduledIndex(RecurringSeries series, LocalDate fromDate) {
+        int index = Math.max(0, monthKey(fromDate) - startMonthKey(series));
+        if (index < occurrenceCount(series) && scheduledDate(series, index).isBefore(fromDate)) {
+            index++;
+        }
+        return index;
+    }
+
+    private Transaction occurrence(AppUser user, RecurringSeries series, int index, RecurringOccurrenceOverride override) {
+        if (override != null && override.isSkipped()) {
+            return null;
+        }
+        Transaction occurrence = Transaction.builder()
+                .transactionId(new RuleOccurrenceId(series.getId(), index).toTransactionId())
+                .amount(series.getAmount())
+                .description(series.getDescription())
+                .category(series.getCategory())
+                .date(scheduledDate(series, index))
+                .status(series.getStatus())
+                .currency(series.getCurrency())
+                .updatedAt(series.getUpdatedAt())
+                .user(user)
+                .type(TransactionType.RECURRING)
+                .series(series)
+                .build();
+        if (override != null) {
+            applyOverride(occurrence, override);
+        }
+        return occurrence;
+    }
+
+    private void applyOverride(Transaction occurrence, RecurringOccurrenceOverride override) {
+        if (override.getDate() != null) {
+            occurrence.setDate(override.getDate());
+        }
+        if (override.getAmount() != null) {
+            occurrence.setAmount(override.getAmount());
+        }
+        if (override.getDescription() != null) {
+            occurrence.setDescription(override.getDescription());
+        }
+        if (override.getCategory() != null) {
+            occurrence.setCategory(override.getCategory());
+        }
+        if (override.getStatus() != null) {
+            occurrence.setStatus(override.getStatus());
+        }
+        if (override.getCurrency() != null) {
+            occurrence.setCurrency(override.getCurrency());
+        }
+    }
+
+    private static int startMonthKey(RecurringSeries series) {
+        return series.getStartYear() * 12 + series.getStartMonth();
+    }
+
+    private static int monthKey(LocalDate date) {
+        return date.getYear() * 12 + date.getMonthValue();
+    }
+}
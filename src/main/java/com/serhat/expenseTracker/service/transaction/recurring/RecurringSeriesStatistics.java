@@ -0,0 +1,126 @@
+package com.serhat.expenseTracker.service.transaction.recurring;
+
+import com.serhat.expenseTracker.entity.RecurringOccurrenceOverride;
+import com.serhat.expenseTracker.entity.RecurringSeries;
+import com.serhat.expenseTracker.entity.Transaction;
+import com.serhat.expenseTracker.entity.enums.RecurringStorageMode;
+import com.serhat.expenseTracker.repository.RecurringOccurrenceOverrideRepository;
+import com.serhat.expenseTracker.repository.TransactionRepository;
+import com.serhat.expenseTracker.repository.projection.SeriesStatistics;
+import com.serhat.expenseTracker.service.transaction.summary.MoneyAccumulator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Maintains the denormalized occurrence count, next occurrence date, total amount and first
+ * transaction of a recurring series, so the recurring overview reads one row per series.
+ * Statistics are recomputed on writes; callers persist the series afterwards.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RecurringSeriesStatistics {
+
+    private final TransactionRepository transactionRepository;
+    private final RecurringOccurrenceOverrideRepository overrideRepository;
+
+    /**
+     * Recomputes the statistics from the stored occurrences, or from the schedule and overrides of a rule
+     */
+    public void refresh(RecurringSeries series) {
+        if (series.getStorageMode() == RecurringStorageMode.RULE) {
+            refreshRule(series);
+            return;
+        }
+        SeriesStatistics statistics = transactionRepository.summarizeSeries(series);
+        series.setOccurrenceCount(Math.toIntExact(statistics.getOccurrenceCount()));
+        series.setTotalAmount(statistics.getTotalAmount() != null ? statistics.getTotalAmount() : BigDecimal.ZERO);
+        series.setFirstTransactionId(statistics.getFirstTransactionId());
+        series.setNextOccurrenceDate(transactionRepository.findNextOccurrenceDate(series, LocalDate.now()));
+        log.debug("Refreshed statistics of recurring series: {}", series.getSeriesKey());
+    }
+
+    /**
+     * Computes the statistics of a rule from its schedule, adjusted by its override rows only,
+     * so the cost does not grow with the number of occurrences
+     */
+    private void refreshRule(RecurringSeries series) {
+        int scheduled = RecurringOccurrenceExpander.occurrenceCount(series);
+        BigDecimal amount = series.getAmount() != null ? series.getAmount() : BigDecimal.ZERO;
+        LocalDate today = LocalDate.now();
+
+        MoneyAccumulator totalAmount = new MoneyAccumulator();
+        totalAmount.add(amount.multiply(BigDecimal.valueOf(scheduled)));
+        int skipped = 0;
+        LocalDate nextOccurrenceDate = null;
+        Set<Integer> overridden = new HashSet<>();
+        for (RecurringOccurrenceOverride override : overrideRepository.findBySeriesIn(List.of(series))) {
+            int index = override.getOccurrenceIndex();
+            if (index >= scheduled) {
+                continue;
+            }
+            overridden.add(index);
+            if (override.isSkipped()) {
+                skipped++;
+                totalAmount.subtract(amount);
+                continue;
+            }
+            if (override.getAmount() != null) {
+                totalAmount.add(override.getAmount());
+                totalAmount.subtract(amount);
+            }
+            LocalDate date = override.getDate() != null
+                    ? override.getDate()
+                    : RecurringOccurrenceExpander.scheduledDate(series, index);
+            if (!date.isBefore(today) && (nextOccurrenceDate == null || date.isBefore(nextOccurrenceDate))) {
+                nextOccurrenceDate = date;
+            }
+        }
+
+        int nextIndex = RecurringOccurrenceExpander.nextScheduledIndex(series, today);
+        while (nextIndex < scheduled && overridden.contains(nextIndex)) {
+            nextIndex++;
+        }
+        if (nextIndex < scheduled) {
+            LocalDate date = RecurringOccurrenceExpander.scheduledDate(series, nextIndex);
+            if (nextOccurrenceDate == null || date.isBefore(nextOccurrenceDate)) {
+                nextOccurrenceDate = date;
+            }
+        }
+
+        series.setOccurrenceCount(scheduled - skipped);
+        series.setTotalAmount(totalAmount.toBigDecimal());
+        series.setNextOccurrenceDate(nextOccurrenceDate);
+        series.setFirstTransactionId(null);
+        log.debug("Refreshed statistics of recurring rule: {}", series.getSeriesKey());
+    }
+
+    /**
+     * Computes the statistics from occurrences already in memory
+     * @param occurrences All occurrences of the series in chronological order
+     */
+    public void apply(RecurringSeries series, List<Transaction> occurrences) {
+        LocalDate today = LocalDate.now();
+        MoneyAccumulator totalAmount = new MoneyAccumulator();
+        LocalDate nextOccurrenceDate = null;
+        for (Transaction occurrence : occurrences) {
+            totalAmount.add(occurrence.getAmount());
+            if (nextOccurrenceDate == null && !occurrence.getDate().isBefore(today)) {
+                nextOccurrenceDate = occurrence.getDate();
+            }
+        }
+        series.setOccurrenceCount(occurrences.size());
+        series.setTotalAmount(totalAmount.toBigDecimal());
+        series.setNextOccurrenceDate(nextOccurrenceDate);
+        series.setFirstTransactionId(series.getStorageMode() == RecurringStorageMode.MATERIALIZED && !occurrences.isEmpty()
+                ? occurrences.get(0).getTransactionId()
+                : null);
+    }
+}
@@ -1,16 +1,20 @@
 package com.serhat.expenseTracker.service.transaction.recurring;
 
+import com.serhat.expenseTracker.dto.objects.RecurringSeriesDto;
 import com.serhat.expenseTracker.dto.objects.TransactionDto;
 import com.serhat.expenseTracker.dto.requests.RecurringTransactionRequest;
 import com.serhat.expenseTracker.dto.requests.RecurringTransactionUpdateRequest;
+import com.serhat.expenseTracker.dto.requests.UpdateTransactionRequest;
 
 import java.util.List;
 
 public interface RecurringTransactionService {
     TransactionDto createRecurringTransaction(RecurringTransactionRequest request);
-    List<TransactionDto> getRecurringTransactions();
+    List<RecurringSeriesDto> getRecurringTransactions();
     String deleteRecurringSeries(Long transactionId);
     TransactionDto updateRecurringTransaction(Long transactionId, RecurringTransactionUpdateRequest request);
+    TransactionDto updateOccurrence(Long transactionId, UpdateTransactionRequest request);
+    String skipOccurrence(Long transactionId);
  //   String deleteSingleRecurringTransaction(Long transactionId);
 
 
@@ -1,25 +1,39 @@
 package com.serhat.expenseTracker.service.transaction.recurring;
 
+import com.serhat.expenseTracker.dto.objects.RecurringSeriesDto;
 import com.serhat.expenseTracker.dto.objects.TransactionDto;
 import com.serhat.expenseTracker.dto.requests.RecurringTransactionRequest;
 import com.serhat.expenseTracker.dto.requests.RecurringTransactionUpdateRequest;
+import com.serhat.expenseTracker.dto.requests.UpdateTransactionRequest;
 import com.serhat.expenseTracker.entity.AppUser;
+import com.serhat.expenseTracker.entity.RecurringOccurrenceOverride;
+import com.serhat.expenseTracker.entity.RecurringSeries;
 import com.serhat.expenseTracker.entity.Transaction;
 import com.serhat.expenseTracker.entity.enums.Currency;
+import com.serhat.expenseTracker.entity.enums.RecurringStorageMode;
 import com.serhat.expenseTracker.entity.enums.TransactionType;
+import com.serhat.expenseTracker.exception.ExpenseNotFoundException;
 import com.serhat.expenseTracker.mapper.TransactionMapper;
+import com.serhat.expenseTracker.repository.RecurringOccurrenceOverrideRepository;
+import com.serhat.expenseTracker.repository.RecurringSeriesRepository;
 import com.serhat.expenseTracker.repository.TransactionRepository;
+import com.serhat.expenseTracker.service.transaction.rollup.MonthlyRollupService;
+import com.serhat.expenseTracker.service.transaction.summary.SummaryCache;
 import com.serhat.expenseTracker.service.user.CurrentUserHolder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -29,6 +43,15 @@ public class RecurringTransactionServiceImpl implements RecurringTransactionServ
     private final TransactionRepository transactionRepository;
     private final TransactionMapper transactionMapper;
     private final CurrentUserHolder currentUserHolder;
+    private final MonthlyRollupService monthlyRollupService;
+    private final RecurringSeriesRepository recurringSeriesRepository;
+    private final RecurringOccurrenceOverrideRepository overrideRepository;
+    private final RecurringOccurrenceExpander recurringOccurrenceExpander;
+    private final RecurringSeriesStatistics recurringSeriesStatistics;
+    private final SummaryCache summaryCache;
+
+    @Value("${recurring.storage-mode:MATERIALIZED}")
+    private RecurringStorageMode storageMode;
 
     private AppUser getCurrentUser() {
         AppUser user = currentUserHolder.getCurrentUser();
@@ -60,125 +83,219 @@ public class RecurringTransactionServiceImpl implements RecurringTransactionServ
     }
 
     /**
-     * Finds a transaction by ID and verifies its part of a recurring series
+     * Finds a transaction of the current user by ID and verifies its part of a recurring series
      * @param transactionId The transaction ID to find
-     * @return The transaction and its recurring series ID
-     * @throws IllegalArgumentException If transaction not found
+     * @return The transaction, with its recurring series
+     * @throws IllegalArgumentException If the current user has no transaction with that ID
      * @throws IllegalStateException If transaction is not part of a recurring series
      */
     private Transaction findAndValidateRecurringTransaction(Long transactionId) {
-        Transaction transaction = transactionRepository.findById(transactionId)
+        Transaction transaction = transactionRepository.findByUserAndTransactionId(getCurrentUser(), transactionId)
                 .orElseThrow(() -> {
                     log.error("Transaction not found with ID: {}", transactionId);
                     return new IllegalArgumentException("Recurring transaction not found");
                 });
         log.debug("Found transaction with ID: {}", transactionId);
 
-        String recurringSeriesId = transaction.getRecurringSeriesId();
-        if (recurringSeriesId == null) {
+        RecurringSeries series = transaction.getSeries();
+        if (series == null) {
             log.error("Transaction ID {} is not part of a recurring series", transactionId);
             throw new IllegalStateException("Transaction is not part of a recurring series");
         }
-        log.debug("Transaction belongs to recurring series: {}", recurringSeriesId);
+        log.debug("Transaction belongs to recurring series: {}", series.getSeriesKey());
 
         return transaction;
     }
 
     /**
-     * Calculates the date range for recurring transactions
-     * @param startYear Start year
-     * @param startMonth Start month
-     * @param endYear End year
-     * @param endMonth End month
-     * @return Start and end dates for the recurring transactions
-     */
-    private LocalDate[] calculateDateRange(int startYear, int startMonth, int endYear, int endMonth) {
-        LocalDate start = LocalDate.of(startYear, startMonth, 1);
-        LocalDate end = LocalDate.of(endYear, endMonth, 1)
-                .withDayOfMonth(LocalDate.of(endYear, endMonth, 1).lengthOfMonth());
-        log.debug("Date range for recurring transactions: {} to {}", start, end);
-        return new LocalDate[]{start, end};
-    }
-
-    /**
-     * Creates a transaction entity for a recurring series
+     * Builds a series from the request template and schedule
      * @param request Transaction request data
      * @param user Current user
      * @param selectedCurrency Selected currency
-     * @param currentDate Date for this instance
-     * @param recurringSeriesId ID of the recurring series
-     * @return Built transaction entity
+     * @param dayOfMonth Preferred day of month, clamped to the length of each month
+     * @return Unsaved series
      */
-    private Transaction buildRecurringTransaction(
+    private RecurringSeries buildSeries(
             RecurringTransactionRequest request,
             AppUser user,
             Currency selectedCurrency,
-            LocalDate currentDate,
-            String recurringSeriesId) {
+            int dayOfMonth) {
 
-        return Transaction.builder()
+        return RecurringSeries.builder()
+                .seriesKey(UUID.randomUUID().toString())
+                .user(user)
+                .storageMode(storageMode)
                 .amount(request.amount())
                 .description(request.description())
                 .category(request.category())
-                .date(currentDate)
                 .status(request.status())
                 .currency(selectedCurrency)
-                .user(user)
-                .type(TransactionType.RECURRING)
-                .dayOfMonth(request.dayOfMonth())
+                .dayOfMonth(dayOfMonth)
                 .startMonth(request.startMonth())
                 .startYear(request.startYear())
                 .endMonth(request.endMonth())
                 .endYear(request.endYear())
-                .recurringSeriesId(recurringSeriesId)
+                .occurrenceCount(0)
+                .totalAmount(BigDecimal.ZERO)
                 .build();
     }
 
     /**
-     * Converts RecurringTransactionUpdateRequest to RecurringTransactionRequest
-     * @param request Update request
-     * @return Equivalent create request
+     * Checks that a series spans a number of months its occurrences can address
+     * @throws IllegalArgumentException If the schedule ends before it starts or is too long
      */
-    private RecurringTransactionRequest convertToCreateRequest(RecurringTransactionUpdateRequest request) {
-        return new RecurringTransactionRequest(
-                request.amount(),
-                request.description(),
-                request.category(),
-                request.status(),
-                request.currency(),
-                request.startMonth(),
-                request.startYear(),
-                request.endMonth(),
-                request.endYear(),
-                request.dayOfMonth()
-        );
+    private void validateSeriesLength(RecurringSeries series) {
+        int occurrences = RecurringOccurrenceExpander.occurrenceCount(series);
+        if (occurrences < 1 || occurrences > RuleOccurrenceId.MAX_OCCURRENCES) {
+            log.error("Invalid recurring series length: {} months", occurrences);
+            throw new IllegalArgumentException("Recurring series must span between 1 and "
+                    + RuleOccurrenceId.MAX_OCCURRENCES + " months");
+        }
     }
 
     /**
-     * Updates transaction details without changing schedule
-     * @param transaction Transaction to update
-     * @param request Update request
+     * Creates a transaction entity for one occurrence of a materialized series
+     * @param series The series supplying the template
+     * @param currentDate Date for this instance
+     * @return Built transaction entity
+     */
+    private Transaction buildRecurringTransaction(RecurringSeries series, LocalDate currentDate) {
+        return Transaction.builder()
+                .amount(series.getAmount())
+                .description(series.getDescription())
+                .category(series.getCategory())
+                .date(currentDate)
+                .status(series.getStatus())
+                .currency(series.getCurrency())
+                .user(series.getUser())
+                .type(TransactionType.RECURRING)
+                .series(series)
+                .build();
+    }
+
+    /**
+     * Inserts every occurrence of a materialized series as one batch, rolls them up and
+     * records the series statistics
+     * @param series Saved series
+     * @return Saved transactions ordered by date
+     */
+    private List<Transaction> materializeOccurrences(RecurringSeries series) {
+        long startedAt = System.nanoTime();
+        List<Transaction> transactions = new ArrayList<>();
+        for (int index = 0; index < RecurringOccurrenceExpander.occurrenceCount(series); index++) {
+            transactions.add(buildRecurringTransaction(series, RecurringOccurrenceExpander.scheduledDate(series, index)));
+        }
+
+        List<Transaction> savedTransactions = transactionRepository.saveAll(transactions);
+        monthlyRollupService.add(savedTransactions);
+        recurringSeriesStatistics.apply(series, savedTransactions);
+        log.info("Materialized {} recurring transactions in series: {} in {} ms",
+                savedTransactions.size(), series.getSeriesKey(), (System.nanoTime() - startedAt) / 1_000_000);
+        return savedTransactions;
+    }
+
+    /**
+     * Finds a rule-based series of the current user by the synthetic id of one of its occurrences
+     * @param transactionId Synthetic occurrence id
+     * @return The series, if it exists, belongs to the user and has such an occurrence
+     */
+    private Optional<RecurringSeries> findRecurringRule(Long transactionId) {
+        RuleOccurrenceId occurrenceId = RuleOccurrenceId.decode(transactionId);
+        return recurringSeriesRepository.findByIdAndUser(occurrenceId.seriesId(), getCurrentUser())
+                .filter(series -> series.getStorageMode() == RecurringStorageMode.RULE)
+                .filter(series -> occurrenceId.occurrenceIndex() < RecurringOccurrenceExpander.occurrenceCount(series));
+    }
+
+    /**
+     * Evicts the cached summaries of every month a rule-based series is scheduled in.
+     * Materialized series are evicted through their rollup updates instead.
+     */
+    private void evictSchedule(RecurringSeries series) {
+        summaryCache.evictRange(
+                series.getUser().getUserId(),
+                YearMonth.of(series.getStartYear(), series.getStartMonth()),
+                YearMonth.of(series.getEndYear(), series.getEndMonth()));
+    }
+
+    /**
+     * Copies the template of an update request onto a series
+     */
+    private void updateSeriesDetails(RecurringSeries series, RecurringTransactionUpdateRequest request) {
+        series.setAmount(request.amount());
+        series.setDescription(request.description());
+        series.setCategory(request.category());
+        series.setStatus(request.status());
+        series.setCurrency(request.currency());
+    }
+
+    /**
+     * Copies the schedule of an update request onto a series
+     */
+    private void updateSeriesSchedule(RecurringSeries series, RecurringTransactionUpdateRequest request) {
+        series.setStartMonth(request.startMonth());
+        series.setStartYear(request.startYear());
+        series.setEndMonth(request.endMonth());
+        series.setEndYear(request.endYear());
+        series.setDayOfMonth(request.dayOfMonth());
+        validateSeriesLength(series);
+    }
+
+    /**
+     * Updates a rule in place. A schedule change drops all overrides; a detail change drops
+     * overridden details but keeps moved and skipped occurrences, as the materialized update does.
+     */
+    private TransactionDto updateRecurringRule(Long transactionId, RecurringTransactionUpdateRequest request) {
+        RecurringSeries series = findRecurringRule(transactionId)
+                .orElseThrow(() -> {
+                    log.error("Recurring rule not found for transaction ID: {}", transactionId);
+                    return new IllegalArgumentException("Recurring transaction not found");
+                });
+
+        boolean scheduleChanged = hasScheduleChanged(series, request);
+        evictSchedule(series);
+        if (scheduleChanged) {
+            validateRecurringTransactionParameters(request.startMonth(), request.endMonth(), request.dayOfMonth());
+            int dropped = overrideRepository.deleteBySeries(series);
+            log.debug("Dropped {} overrides of rescheduled rule: {}", dropped, series.getSeriesKey());
+        } else {
+            overrideRepository.clearDetails(series);
+            overrideRepository.deleteUnchanged(series);
+        }
+
+        updateSeriesDetails(series, request);
+        if (scheduleChanged) {
+            updateSeriesSchedule(series, request);
+        }
+
+        RecurringSeries savedSeries = recurringSeriesRepository.save(series);
+        recurringSeriesStatistics.refresh(savedSeries);
+        evictSchedule(savedSeries);
+        log.info("Successfully updated recurring rule: {}", savedSeries.getSeriesKey());
+        return transactionMapper.toTransactionDto(recurringOccurrenceExpander.firstOccurrence(savedSeries));
+    }
+
+    /**
+     * Returns the requested value if it differs from the series template, otherwise clears it
      */
-    private void updateTransactionDetails(Transaction transaction, RecurringTransactionUpdateRequest request) {
-        transaction.setAmount(request.amount());
-        transaction.setDescription(request.description());
-        transaction.setCategory(request.category());
-        transaction.setStatus(request.status());
-        transaction.setCurrency(request.currency());
+    private <T> T overriddenValue(T requested, T template, T current) {
+        if (requested == null) {
+            return current;
+        }
+        return Objects.equals(requested, template) ? null : requested;
     }
 
     /**
      * Checks if schedule parameters have changed in update request
-     * @param transaction Original transaction
+     * @param series Original series
      * @param request Update request
      * @return True if schedule parameters changed
      */
-    private boolean hasScheduleChanged(Transaction transaction, RecurringTransactionUpdateRequest request) {
-        boolean scheduleChanged = request.startYear() != transaction.getStartYear() ||
-                request.startMonth() != transaction.getStartMonth() ||
-                request.endYear() != transaction.getEndYear() ||
-                request.endMonth() != transaction.getEndMonth() ||
-                !request.dayOfMonth().equals(transaction.getDayOfMonth());
+    private boolean hasScheduleChanged(RecurringSeries series, RecurringTransactionUpdateRequest request) {
+        boolean scheduleChanged = !Objects.equals(request.startYear(), series.getStartYear()) ||
+                !Objects.equals(request.startMonth(), series.getStartMonth()) ||
+                !Objects.equals(request.endYear(), series.getEndYear()) ||
+                !Objects.equals(request.endMonth(), series.getEndMonth()) ||
+                !Objects.equals(request.dayOfMonth(), series.getDayOfMonth());
 
         log.debug("Schedule parameters changed: {}", scheduleChanged);
         return scheduleChanged;
@@ -194,45 +311,29 @@ public class RecurringTransactionServiceImpl implements RecurringTransactionServ
             validateRecurringTransactionParameters(request.startMonth(), request.endMonth(), request.dayOfMonth());
 
             AppUser user = getCurrentUser();
-            log.debug("User's favorite currency: {}", user.getFavoriteCurrency());
-            Currency selectedCurrency = user.getFavoriteCurrency() != null ? user.getFavoriteCurrency() : request.currency();
+            Currency favoriteCurrency = currentUserHolder.getFavoriteCurrency();
+            log.debug("User's favorite currency: {}", favoriteCurrency);
+            Currency selectedCurrency = favoriteCurrency != null ? favoriteCurrency : request.currency();
             log.debug("Selected currency for transaction: {}", selectedCurrency);
 
-            LocalDate[] dateRange = calculateDateRange(request.startYear(), request.startMonth(), request.endYear(), request.endMonth());
-            LocalDate start = dateRange[0];
-            LocalDate end = dateRange[1];
-
             int dayOfMonth = request.dayOfMonth() != null && request.dayOfMonth() >= 1 && request.dayOfMonth() <= 31
                     ? request.dayOfMonth()
                     : 1;
-            log.debug("Using day of month: {}", dayOfMonth);
-
-            String recurringSeriesId = UUID.randomUUID().toString();
-            log.debug("Generated recurring series ID: {}", recurringSeriesId);
-
-            Transaction firstTransaction = null;
-            LocalDate currentDate = start.withDayOfMonth(Math.min(dayOfMonth, start.lengthOfMonth()));
-            int transactionCount = 0;
-
-            while (!currentDate.isAfter(end)) {
-                log.debug("Creating transaction for date: {}", currentDate);
-                Transaction recurringTransaction = buildRecurringTransaction(
-                        request, user, selectedCurrency, currentDate, recurringSeriesId);
-
-                Transaction savedTransaction = transactionRepository.save(recurringTransaction);
-                log.debug("Saved transaction with ID: {}", savedTransaction.getTransactionId());
 
-                if (firstTransaction == null) {
-                    firstTransaction = savedTransaction;
-                    log.debug("Set first transaction with ID: {}", firstTransaction.getTransactionId());
-                }
+            RecurringSeries series = buildSeries(request, user, selectedCurrency, dayOfMonth);
+            validateSeriesLength(series);
+            RecurringSeries savedSeries = recurringSeriesRepository.save(series);
 
-                currentDate = currentDate.plusMonths(1).withDayOfMonth(Math.min(dayOfMonth, currentDate.plusMonths(1).lengthOfMonth()));
-                transactionCount++;
+            if (savedSeries.getStorageMode() == RecurringStorageMode.RULE) {
+                recurringSeriesStatistics.refresh(savedSeries);
+                evictSchedule(savedSeries);
+                log.info("Created recurring rule {} with {} occurrences",
+                        savedSeries.getSeriesKey(), savedSeries.getOccurrenceCount());
+                return transactionMapper.toTransactionDto(recurringOccurrenceExpander.firstOccurrence(savedSeries));
             }
 
-            log.info("Successfully created {} recurring transactions in series: {}", transactionCount, recurringSeriesId);
-            return transactionMapper.toTransactionDto(firstTransaction);
+            List<Transaction> savedTransactions = materializeOccurrences(savedSeries);
+            return transactionMapper.toTransactionDto(savedTransactions.get(0));
         } catch (Exception e) {
             log.error("Error creating recurring transaction: {}", e.getMessage(), e);
             throw e;
@@ -240,24 +341,13 @@ public class RecurringTransactionServiceImpl implements RecurringTransactionServ
     }
 
     @Override
-    public List<TransactionDto> getRecurringTransactions() {
+    public List<RecurringSeriesDto> getRecurringTransactions() {
         log.info("Retrieving all recurring transactions for current user");
 
         try {
             AppUser user = getCurrentUser();
-            List<Transaction> recurringTransactions = transactionRepository.findByUserAndType(user, TransactionType.RECURRING);
-            log.debug("Found {} total recurring transactions for user ID: {}", recurringTransactions.size(), user.getUserId());
-
-            Map<String, Transaction> uniqueRecurringTransactions = recurringTransactions.stream()
-                    .collect(Collectors.toMap(
-                            Transaction::getRecurringSeriesId,
-                            transaction -> transaction,
-                            (existing, replacement) -> existing.getDate().isBefore(replacement.getDate()) ? existing : replacement
-                    ));
-            log.debug("Filtered to {} unique recurring transaction series", uniqueRecurringTransactions.size());
-
-            List<TransactionDto> result = uniqueRecurringTransactions.values().stream()
-                    .map(transactionMapper::toTransactionDto)
+            List<RecurringSeriesDto> result = recurringSeriesRepository.findByUserOrderByStartYearAscStartMonthAsc(user).stream()
+                    .map(transactionMapper::toRecurringSeriesDto)
                     .toList();
 
             log.info("Successfully retrieved {} recurring transaction series", result.size());
@@ -274,31 +364,48 @@ public class RecurringTransactionServiceImpl implements RecurringTransactionServ
         log.info("Updating recurring transaction with ID: {} and request: {}", transactionId, request);
 
         try {
-            Transaction transaction = findAndValidateRecurringTransaction(transactionId);
-            String recurringSeriesId = transaction.getRecurringSeriesId();
+            if (RuleOccurrenceId.isSynthetic(transactionId)) {
+                return updateRecurringRule(transactionId, request);
+            }
 
-            List<Transaction> seriesToUpdate = transactionRepository.findByRecurringSeriesId(recurringSeriesId);
-            log.debug("Found {} transactions in recurring series ID: {}", seriesToUpdate.size(), recurringSeriesId);
+            Transaction transaction = findAndValidateRecurringTransaction(transactionId);
+            RecurringSeries series = transaction.getSeries();
+            Long seriesId = series.getId();
+            Long userId = transaction.getUser().getUserId();
+            boolean scheduleChanged = hasScheduleChanged(series, request);
+            monthlyRollupService.removeSeries(userId, seriesId);
 
-            if (hasScheduleChanged(transaction, request)) {
+            if (scheduleChanged) {
                 log.info("Recreating recurring series with new schedule parameters");
-                int deletedCount = transactionRepository.deleteByRecurringSeriesId(recurringSeriesId);
-                log.debug("Deleted {} transactions from series: {}", deletedCount, recurringSeriesId);
-
-                RecurringTransactionRequest newRequest = convertToCreateRequest(request);
-
-                log.debug("Creating new recurring transaction series with updated parameters");
-                return createRecurringTransaction(newRequest);
+                validateRecurringTransactionParameters(request.startMonth(), request.endMonth(), request.dayOfMonth());
+                int deletedCount = transactionRepository.deleteBySeries(series);
+                log.debug("Deleted {} transactions from series: {}", deletedCount, series.getSeriesKey());
+
+                RecurringSeries rescheduled = recurringSeriesRepository.findById(seriesId).orElseThrow();
+                Currency favoriteCurrency = currentUserHolder.getFavoriteCurrency();
+                updateSeriesDetails(rescheduled, request);
+                rescheduled.setCurrency(favoriteCurrency != null ? favoriteCurrency : request.currency());
+                updateSeriesSchedule(rescheduled, request);
+
+                List<Transaction> savedTransactions = materializeOccurrences(rescheduled);
+                return transactionMapper.toTransactionDto(savedTransactions.get(0));
             } else {
-                log.info("Updating {} transactions in series with new transaction details", seriesToUpdate.size());
-                for (Transaction t : seriesToUpdate) {
-                    log.debug("Updating transaction ID: {}", t.getTransactionId());
-                    updateTransactionDetails(t, request);
-                    transactionRepository.save(t);
-                }
-
-                log.info("Successfully updated all transactions in recurring series: {}", recurringSeriesId);
-                return transactionMapper.toTransactionDto(transaction);
+                int updatedCount = transactionRepository.updateSeriesDetails(
+                        series,
+                        request.amount(),
+                        request.description(),
+                        request.category(),
+                        request.status(),
+                        request.currency(),
+                        LocalDate.now());
+                monthlyRollupService.addSeries(userId, seriesId);
+
+                RecurringSeries updated = recurringSeriesRepository.findById(seriesId).orElseThrow();
+                updateSeriesDetails(updated, request);
+                recurringSeriesStatistics.refresh(updated);
+
+                log.info("Successfully updated {} transactions in recurring series: {}", updatedCount, updated.getSeriesKey());
+                return transactionMapper.toTransactionDto(findAndValidateRecurringTransaction(transactionId));
             }
         } catch (Exception e) {
             log.error("Error updating recurring transaction: {}", e.getMessage(), e);
@@ -312,11 +419,24 @@ public class RecurringTransactionServiceImpl implements RecurringTransactionServ
         log.info("Deleting recurring series for transaction ID: {}", transactionId);
 
         try {
+            if (RuleOccurrenceId.isSynthetic(transactionId)) {
+                RecurringSeries series = findRecurringRule(transactionId)
+                        .orElseThrow(() -> new IllegalArgumentException("Recurring transaction not found"));
+                int occurrences = series.getOccurrenceCount();
+                evictSchedule(series);
+                overrideRepository.deleteBySeries(series);
+                recurringSeriesRepository.deleteById(series.getId());
+                log.info("Successfully deleted recurring rule: {}", series.getSeriesKey());
+                return "Successfully deleted " + occurrences + " recurring transactions";
+            }
+
             Transaction transaction = findAndValidateRecurringTransaction(transactionId);
-            String recurringSeriesId = transaction.getRecurringSeriesId();
+            RecurringSeries series = transaction.getSeries();
 
-            int deleted = transactionRepository.deleteByRecurringSeriesId(recurringSeriesId);
-            log.info("Successfully deleted {} recurring transactions from series: {}", deleted, recurringSeriesId);
+            monthlyRollupService.removeSeries(transaction.getUser().getUserId(), series.getId());
+            int deleted = transactionRepository.deleteBySeries(series);
+            recurringSeriesRepository.deleteById(series.getId());
+            log.info("Successfully deleted {} recurring transactions from series: {}", deleted, series.getSeriesKey());
 
             return "Successfully deleted " + deleted + " recurring transactions";
         } catch (Exception e) {
@@ -324,4 +444,70 @@ public class RecurringTransactionServiceImpl implements RecurringTransactionServ
             throw e;
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    @Transactional
+    public TransactionDto updateOccurrence(Long transactionId, UpdateTransactionRequest request) {
+        log.info("Overriding occurrence ID: {} of a recurring rule", transactionId);
+        RecurringSeries series = findRecurringRule(transactionId)
+                .orElseThrow(() -> new ExpenseNotFoundException("Transaction not found by id: " + transactionId));
+        int index = RuleOccurrenceId.decode(transactionId).occurrenceIndex();
+        RecurringOccurrenceOverride override = overrideRepository.findBySeriesAndOccurrenceIndex(series, index)
+                .orElseGet(() -> RecurringOccurrenceOverride.builder().series(series).occurrenceIndex(index).build());
+        if (override.isSkipped()) {
+            throw new ExpenseNotFoundException("Transaction not found by id: " + transactionId);
+        }
+
+        LocalDate scheduledDate = RecurringOccurrenceExpander.scheduledDate(series, index);
+        if (request.date() != null && !YearMonth.from(request.date()).equals(YearMonth.from(scheduledDate))) {
+            log.error("Occurrence ID: {} cannot move from {} to {}", transactionId, scheduledDate, request.date());
+            throw new IllegalArgumentException("An occurrence of a recurring series can only move within its month");
+        }
+        override.setDate(overriddenValue(request.date(), scheduledDate, override.getDate()));
+        override.setAmount(overriddenValue(request.amount(), series.getAmount(), override.getAmount()));
+        override.setDescription(overriddenValue(request.description(), series.getDescription(), override.getDescription()));
+        override.setCategory(overriddenValue(request.category(), series.getCategory(), override.getCategory()));
+        override.setStatus(overriddenValue(request.status(), series.getStatus(), override.getStatus()));
+        override.setCurrency(overriddenValue(request.currency(), series.getCurrency(), override.getCurrency()));
+
+        if (override.isEmpty()) {
+            if (override.getId() != null) {
+                overrideRepository.delete(override);
+            }
+        } else {
+            overrideRepository.save(override);
+        }
+        recurringSeriesStatistics.refresh(series);
+        summaryCache.evict(series.getUser().getUserId(), List.of(YearMonth.from(scheduledDate)));
+        return recurringOccurrenceExpander.find(getCurrentUser(), transactionId)
+                .map(transactionMapper::toTransactionDto)
+                .orElseThrow(() -> new ExpenseNotFoundException("Transaction not found by id: " + transactionId));
+    }
+
+    @Override
+    @Transactional
+    public String skipOccurrence(Long transactionId) {
+        log.info("Skipping occurrence ID: {} of a recurring rule", transactionId);
+        RecurringSeries series = findRecurringRule(transactionId)
+                .orElseThrow(() -> new ExpenseNotFoundException("Transaction not found by id: " + transactionId));
+        int index = RuleOccurrenceId.decode(transactionId).occurrenceIndex();
+        RecurringOccurrenceOverride override = overrideRepository.findBySeriesAndOccurrenceIndex(series, index)
+                .orElseGet(() -> RecurringOccurrenceOverride.builder().series(series).occurrenceIndex(index).build());
+        if (override.isSkipped()) {
+            throw new ExpenseNotFoundException("Transaction not found by id: " + transactionId);
+        }
+
+        override.setSkipped(true);
+        override.setDate(null);
+        override.setAmount(null);
+        override.setDescription(null);
+        override.setCategory(null);
+        override.setStatus(null);
+        override.setCurrency(null);
+        overrideRepository.save(override);
+        recurringSeriesStatistics.refresh(series);
+        summaryCache.evict(series.getUser().getUserId(),
+                List.of(YearMonth.from(RecurringOccurrenceExpander.scheduledDate(series, index))));
+        return "Transaction deleted successfully.";
+    }
+}
@@ -0,0 +1,23 @@
+package com.serhat.expenseTracker.service.transaction.recurring;
+
+/**
+ * Synthetic transaction id of an occurrence generated from a rule-based series.
+ * Encodes the series id and the month offset of the occurrence from the series start as a
+ * negative number, so it never collides with the ids of stored transactions.
+ */
+public record RuleOccurrenceId(long seriesId, int occurrenceIndex) {
+    public static final int MAX_OCCURRENCES = 4096;
+
+    public static boolean isSynthetic(Long transactionId) {
+        return transactionId != null && transactionId < 0;
+    }
+
+    public static RuleOccurrenceId decode(long transactionId) {
+        long value = -transactionId;
+        return new RuleOccurrenceId(value / MAX_OCCURRENCES, (int) (value % MAX_OCCURRENCES));
+    }
+
+    public long toTransactionId() {
+        return -(seriesId * MAX_OCCURRENCES + occurrenceIndex);
+    }
+}
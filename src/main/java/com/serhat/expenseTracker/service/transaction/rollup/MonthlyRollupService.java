@@ -0,0 +1,156 @@
+package com.serhat.expenseTracker.service.transaction.rollup;
+
+import com.serhat.expenseTracker.entity.Transaction;
+import com.serhat.expenseTracker.repository.MonthlyRollupRepository;
+import com.serhat.expenseTracker.service.transaction.summary.MoneyAccumulator;
+import com.serhat.expenseTracker.service.transaction.summary.SummaryCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the per-user monthly rollups in step with the transaction table.
+ * Every write joins the caller's transaction so a rollup can never be
+ * committed without the transaction rows it describes, and evicts the cached summaries of the months it touches.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MonthlyRollupService {
+
+    private final MonthlyRollupRepository monthlyRollupRepository;
+    private final SummaryCache summaryCache;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void add(Collection<Transaction> transactions) {
+        Map<RollupKey, RollupDelta> deltas = new HashMap<>();
+        transactions.forEach(transaction -> accumulate(deltas, RollupEntry.of(transaction), 1));
+        apply(deltas);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void remove(Collection<Transaction> transactions) {
+        Map<RollupKey, RollupDelta> deltas = new HashMap<>();
+        transactions.forEach(transaction -> accumulate(deltas, RollupEntry.of(transaction), -1));
+        apply(deltas);
+    }
+
+    /**
+     * Moves a transaction's contribution from its previous rollup to its current one
+     * @param previous Snapshot taken before the transaction was modified
+     * @param current The modified transaction
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void replace(RollupEntry previous, Transaction current) {
+        Map<RollupKey, RollupDelta> deltas = new HashMap<>();
+        accumulate(deltas, previous, -1);
+        accumulate(deltas, RollupEntry.of(current), 1);
+        apply(deltas);
+    }
+
+    /**
+     * Adds the current rows of a recurring series to the rollups in one set-based statement
+     * @param userId Owner of the series
+     * @param seriesId Series whose rows are counted
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addSeries(Long userId, Long seriesId) {
+        int rows = monthlyRollupRepository.addSeries(seriesId);
+        summaryCache.evict(userId, seriesPeriods(seriesId));
+        log.debug("Added recurring series {} to {} monthly rollups of user ID: {}", seriesId, rows, userId);
+    }
+
+    /**
+     * Subtracts the current rows of a recurring series from the rollups in one set-based statement.
+     * Must run before the series rows are modified or deleted.
+     * @param userId Owner of the series
+     * @param seriesId Series whose rows are subtracted
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removeSeries(Long userId, Long seriesId) {
+        summaryCache.evict(userId, seriesPeriods(seriesId));
+        int rows = monthlyRollupRepository.subtractSeries(seriesId);
+        monthlyRollupRepository.deleteEmptyRollups(userId);
+        log.debug("Removed recurring series {} from {} monthly rollups of user ID: {}", seriesId, rows, userId);
+    }
+
+    /**
+     * Regenerates every rollup from the transaction table and verifies the result against it
+     * @return Number of rollup rows written and rows that still disagree with the transaction table
+     */
+    @Transactional
+    public RollupRebuildResult rebuild() {
+        int deleted = monthlyRollupRepository.deleteAllRollups();
+        int written = monthlyRollupRepository.rebuildFromTransactions();
+        log.info("Rebuilt monthly rollups: {} rows removed, {} rows written", deleted, written);
+        summaryCache.evictAll();
+        return new RollupRebuildResult(written, monthlyRollupRepository.countMismatchedRollups());
+    }
+
+    @Transactional(readOnly = true)
+    public RollupRebuildResult verify() {
+        return new RollupRebuildResult((int) monthlyRollupRepository.count(), monthlyRollupRepository.countMismatchedRollups());
+    }
+
+    private void accumulate(Map<RollupKey, RollupDelta> deltas, RollupEntry entry, int sign) {
+        RollupDelta delta = deltas.computeIfAbsent(entry.key(), key -> new RollupDelta());
+        delta.count += sign;
+        if (sign > 0) {
+            delta.amount.add(entry.amount());
+        } else {
+            delta.amount.subtract(entry.amount());
+        }
+    }
+
+    private List<YearMonth> seriesPeriods(Long seriesId) {
+        return monthlyRollupRepository.findSeriesPeriods(seriesId).stream()
+                .map(period -> YearMonth.of(period.getYear(), period.getMonth()))
+                .toList();
+    }
+
+    private void apply(Map<RollupKey, RollupDelta> deltas) {
+        Set<Long> shrunkUsers = new HashSet<>();
+        Map<Long, Set<YearMonth>> touchedPeriods = new HashMap<>();
+        deltas.forEach((key, delta) -> {
+            if (delta.isEmpty()) {
+                return;
+            }
+            touchedPeriods.computeIfAbsent(key.userId(), userId -> new HashSet<>())
+                    .add(YearMonth.of(key.year(), key.month()));
+            monthlyRollupRepository.applyDelta(
+                    key.userId(),
+                    key.year(),
+                    key.month(),
+                    key.category().name(),
+                    key.status().name(),
+                    key.currency().name(),
+                    delta.count,
+                    delta.amount.toBigDecimal());
+            if (delta.count < 0) {
+                shrunkUsers.add(key.userId());
+            }
+        });
+        shrunkUsers.forEach(monthlyRollupRepository::deleteEmptyRollups);
+        touchedPeriods.forEach(summaryCache::evict);
+        log.debug("Applied {} monthly rollup deltas", deltas.size());
+    }
+
+    private static final class RollupDelta {
+        private long count;
+        private final MoneyAccumulator amount = new MoneyAccumulator();
+
+        boolean isEmpty() {
+            return count == 0 && amount.isZero();
+        }
+    }
+}
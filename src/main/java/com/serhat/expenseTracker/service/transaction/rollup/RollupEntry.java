@@ -0,0 +1,19 @@
+package com.serhat.expenseTracker.service.transaction.rollup;
+
+import com.serhat.expenseTracker.entity.Transaction;
+
+import java.math.BigDecimal;
+
+/**
+ * Snapshot of what a single transaction contributes to its monthly rollup,
+ * taken before the transaction is modified.
+ */
+public record RollupEntry(RollupKey key, BigDecimal amount) {
+
+    public static RollupEntry of(Transaction transaction) {
+        return new RollupEntry(
+                RollupKey.of(transaction),
+                transaction.getAmount() != null ? transaction.getAmount() : BigDecimal.ZERO
+        );
+    }
+}
@@ -0,0 +1,30 @@
+package com.serhat.expenseTracker.service.transaction.rollup;
+
+import com.serhat.expenseTracker.entity.Transaction;
+import com.serhat.expenseTracker.entity.enums.Category;
+import com.serhat.expenseTracker.entity.enums.Currency;
+import com.serhat.expenseTracker.entity.enums.Status;
+
+/**
+ * Identifies the monthly rollup row a transaction contributes to.
+ * Transactions without a category are rolled up under {@link Category#OTHER}.
+ */
+public record RollupKey(
+        Long userId,
+        int year,
+        int month,
+        Category category,
+        Status status,
+        Currency currency
+) {
+    public static RollupKey of(Transaction transaction) {
+        return new RollupKey(
+                transaction.getUser().getUserId(),
+                transaction.getDate().getYear(),
+                transaction.getDate().getMonthValue(),
+                transaction.getCategory() != null ? transaction.getCategory() : Category.OTHER,
+                transaction.getStatus(),
+                transaction.getCurrency()
+        );
+    }
+}
@@ -0,0 +1,10 @@
+package com.serhat.expenseTracker.service.transaction.rollup;
+
+public record RollupRebuildResult(
+        int rollupRows,
+        long mismatchedRows
+) {
+    public boolean consistent() {
+        return mismatchedRows == 0;
+    }
+}
@@ -0,0 +1,62 @@
+package com.serhat.expenseTracker.service.transaction.summary;
+
+import java.math.BigDecimal;
+
+/**
+ * Mutable running total of money amounts kept as a {@code long} count of minor units (cents),
+ * so adding to it does not allocate a new {@link BigDecimal} per row.
+ * Amounts with more than two decimals and totals that would overflow a {@code long} spill into an
+ * exact {@link BigDecimal} remainder; {@link #toBigDecimal()} is exact in every case.
+ */
+public final class MoneyAccumulator {
+    public static final int SCALE = 2;
+
+    private long minorUnits;
+    private BigDecimal spill;
+
+    public MoneyAccumulator add(BigDecimal amount) {
+        if (amount == null || amount.signum() == 0) {
+            return this;
+        }
+        if (amount.scale() <= SCALE && amount.precision() - amount.scale() <= 16) {
+            // at most 16 integer digits plus 2 decimals always fit in a long
+            return addMinorUnits(amount.movePointRight(SCALE).longValueExact());
+        }
+        spill = spill == null ? amount : spill.add(amount);
+        return this;
+    }
+
+    public MoneyAccumulator subtract(BigDecimal amount) {
+        return amount == null ? this : add(amount.negate());
+    }
+
+    public MoneyAccumulator add(MoneyAccumulator other) {
+        addMinorUnits(other.minorUnits);
+        if (other.spill != null) {
+            spill = spill == null ? other.spill : spill.add(other.spill);
+        }
+        return this;
+    }
+
+    public MoneyAccumulator addMinorUnits(long units) {
+        long sum = minorUnits + units;
+        if (((minorUnits ^ sum) & (units ^ sum)) < 0) {
+            // overflow: move the current total into the BigDecimal remainder and start again from the addend
+            BigDecimal overflowed = BigDecimal.valueOf(minorUnits, SCALE);
+            spill = spill == null ? overflowed : spill.add(overflowed);
+            minorUnits = units;
+        } else {
+            minorUnits = sum;
+        }
+        return this;
+    }
+
+    public boolean isZero() {
+        return minorUnits == 0 && (spill == null || spill.signum() == 0);
+    }
+
+    public BigDecimal toBigDecimal() {
+        BigDecimal total = BigDecimal.valueOf(minorUnits, SCALE);
+        return spill == null ? total : total.add(spill);
+    }
+}
@@ -0,0 +1,43 @@
+package com.serhat.expenseTracker.service.transaction.summary;
+
+import com.serhat.expenseTracker.entity.enums.Category;
+import com.serhat.expenseTracker.entity.enums.Currency;
+import com.serhat.expenseTracker.entity.enums.Status;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Transaction counts and amounts of a period per category, status and currency, before any conversion,
+ * with the amounts split by month of the year. This is what {@link SummaryCache} holds, so a cached period
+ * can be summarized in any currency at the rates of each month. Instances are filled once and then only read.
+ */
+public final class PeriodTotals {
+    private final Map<Category, Map<Status, Map<Currency, GroupTotal>>> groups = new LinkedHashMap<>();
+
+    void add(Category category, Status status, Currency currency, int month, long count, BigDecimal amount) {
+        GroupTotal total = groups.computeIfAbsent(category, key -> new LinkedHashMap<>())
+                .computeIfAbsent(status, key -> new EnumMap<>(Currency.class))
+                .computeIfAbsent(currency, key -> new GroupTotal());
+        total.count += count;
+        total.amount(month).add(amount);
+    }
+
+    Map<Category, Map<Status, Map<Currency, GroupTotal>>> groups() {
+        return groups;
+    }
+
+    static final class GroupTotal {
+        long count;
+        final MoneyAccumulator[] amountByMonth = new MoneyAccumulator[12];
+
+        private MoneyAccumulator amount(int month) {
+            if (amountByMonth[month - 1] == null) {
+                amountByMonth[month - 1] = new MoneyAccumulator();
+            }
+            return amountByMonth[month - 1];
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.serhat.expenseTracker.service.transaction.summary;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.serhat.expenseTracker.service.cache.CacheEvictions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of the per-currency totals behind monthly and annual summaries,
+ * keyed by (userId, year, month), month 0 being the whole year.
+ * Writers evict exactly the periods they touch through {@link CacheEvictions}; other nodes evict every
+ * summary of the written user.
+ * Hit, miss and eviction counts are published as the {@code summaries} cache metrics.
+ */
+@Component
+@Slf4j
+public class SummaryCache {
+    private static final int ANNUAL = 0;
+    private static final String CACHE_NAME = "summaries";
+    private static final String ALL_USERS = "*";
+
+    private final Cache<SummaryKey, PeriodTotals> cache;
+    private final Counter invalidations;
+    private final CacheEvictions cacheEvictions;
+
+    public SummaryCache(MeterRegistry meterRegistry,
+                        CacheEvictions cacheEvictions,
+                        @Value("${summary.cache.maximum-size:10000}") long maximumSize,
+                        @Value("${summary.cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.invalidations = Counter.builder("summaries.invalidations")
+                .description("Summary cache entries invalidated by writes")
+                .register(meterRegistry);
+        this.cacheEvictions = cacheEvictions;
+        cacheEvictions.register(CACHE_NAME, this::evictBroadcast);
+    }
+
+    public PeriodTotals getMonth(Long userId, int year, int month, Supplier<PeriodTotals> loader) {
+        return cache.get(new SummaryKey(userId, year, month), key -> loader.get());
+    }
+
+    public PeriodTotals getYear(Long userId, int year, Supplier<PeriodTotals> loader) {
+        return cache.get(new SummaryKey(userId, year, ANNUAL), key -> loader.get());
+    }
+
+    /**
+     * Evicts the summaries of the given months and of the years containing them
+     */
+    public void evict(Long userId, Collection<YearMonth> periods) {
+        if (periods.isEmpty()) {
+            return;
+        }
+        Set<SummaryKey> keys = new HashSet<>();
+        for (YearMonth period : periods) {
+            keys.add(new SummaryKey(userId, period.getYear(), period.getMonthValue()));
+            keys.add(new SummaryKey(userId, period.getYear(), ANNUAL));
+        }
+        cacheEvictions.evict(CACHE_NAME, String.valueOf(userId), () -> invalidate(keys));
+    }
+
+    /**
+     * Evicts the summaries of every month between the given months (inclusive)
+     */
+    public void evictRange(Long userId, YearMonth from, YearMonth to) {
+        Set<YearMonth> periods = new HashSet<>();
+        for (YearMonth period = from; !period.isAfter(to); period = period.plusMonths(1)) {
+            periods.add(period);
+        }
+        evict(userId, periods);
+    }
+
+    public void evictAll() {
+        cacheEvictions.evict(CACHE_NAME, ALL_USERS, cache::invalidateAll);
+        log.info("Summary cache cleared");
+    }
+
+    /**
+     * Evicts every summary of a user written on another node, or all summaries
+     */
+    private void evictBroadcast(String userId) {
+        if (ALL_USERS.equals(userId)) {
+            cache.invalidateAll();
+            return;
+        }
+        Long id = Long.valueOf(userId);
+        cache.asMap().keySet().removeIf(key -> key.userId().equals(id));
+    }
+
+    private void invalidate(Set<SummaryKey> keys) {
+        cache.invalidateAll(keys);
+        invalidations.increment(keys.size());
+        log.debug("Invalidated {} summary cache entries", keys.size());
+    }
+
+    private record SummaryKey(Long userId, int year, int month) {
+    }
+}
@@ -0,0 +1,304 @@
+package com.serhat.expenseTracker.service.transaction.summary;
+
+import com.serhat.expenseTracker.dto.objects.CategoryExpensesDto;
+import com.serhat.expenseTracker.dto.objects.CategorySpendDto;
+import com.serhat.expenseTracker.dto.objects.DailyBalanceDto;
+import com.serhat.expenseTracker.dto.objects.SummaryDto;
+import com.serhat.expenseTracker.dto.objects.TrendBucketDto;
+import com.serhat.expenseTracker.dto.responses.BalanceSeriesResponse;
+import com.serhat.expenseTracker.entity.AppUser;
+import com.serhat.expenseTracker.entity.Transaction;
+import com.serhat.expenseTracker.entity.enums.Category;
+import com.serhat.expenseTracker.entity.enums.Currency;
+import com.serhat.expenseTracker.entity.enums.Status;
+import com.serhat.expenseTracker.repository.MonthlyRollupRepository;
+import com.serhat.expenseTracker.repository.TransactionRepository;
+import com.serhat.expenseTracker.repository.projection.CategoryCurrencySpend;
+import com.serhat.expenseTracker.repository.projection.CategoryStatusTotal;
+import com.serhat.expenseTracker.repository.projection.DailyCurrencyTotal;
+import com.serhat.expenseTracker.repository.projection.PeriodStatusTotal;
+import com.serhat.expenseTracker.service.currency.DatedRates;
+import com.serhat.expenseTracker.service.currency.ExchangeRateTable;
+import com.serhat.expenseTracker.service.transaction.recurring.RecurringOccurrenceExpander;
+import com.serhat.expenseTracker.service.user.CurrentUserHolder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds income, outgoings, budget and the category/status breakdown of a period
+ * from a single grouped query over the monthly rollups, so the cost depends on the
+ * number of months in the period rather than the number of transactions.
+ * Rule-based recurring series are not rolled up; their occurrences in the period are generated and folded in.
+ * Totals are kept per currency and month and converted into the requested currency (the user's favorite one
+ * by default) once per currency, month and group, at the rates of the month's last day (today for the
+ * current month), read from the in-memory history of the {@link ExchangeRateTable}.
+ * Balance series are converted at the rates of each day.
+ * The per-currency totals are served from {@link SummaryCache} until a write to the period evicts them.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SummaryEngine {
+    private static final Currency DEFAULT_CURRENCY = Currency.USD;
+
+    private final MonthlyRollupRepository monthlyRollupRepository;
+    private final TransactionRepository transactionRepository;
+    private final RecurringOccurrenceExpander recurringOccurrenceExpander;
+    private final SummaryCache summaryCache;
+    private final ExchangeRateTable exchangeRateTable;
+    private final CurrentUserHolder currentUserHolder;
+
+    /**
+     * @param currency Currency of the summary, or null for the user's favorite currency
+     */
+    public SummaryDto summarizeMonth(AppUser user, int year, int month, Currency currency) {
+        return toSummary(summaryCache.getMonth(user.getUserId(), year, month, () -> computeMonth(user, year, month)),
+                year, targetCurrency(currency));
+    }
+
+    /**
+     * @param currency Currency of the summary, or null for the user's favorite currency
+     */
+    public SummaryDto summarizeYear(AppUser user, int year, Currency currency) {
+        return toSummary(summaryCache.getYear(user.getUserId(), year, () -> computeYear(user, year)),
+                year, targetCurrency(currency));
+    }
+
+    /**
+     * Income, outgoings and budget per bucket between two months (inclusive), each with its change from the
+     * previous bucket. Built from one grouped rollup query plus the rule occurrences of the range,
+     * converted into the target currency once per month and currency at the rates of that month.
+     * @param currency Currency of the trend, or null for the user's favorite currency
+     * @return Buckets in chronological order, empty buckets included
+     */
+    public List<TrendBucketDto> trend(AppUser user, YearMonth from, YearMonth to, TrendGranularity granularity,
+                                      Currency currency) {
+        Currency target = targetCurrency(currency);
+        YearMonth firstBucket = granularity.bucketOf(from);
+        int bucketCount = bucketIndex(firstBucket, to, granularity) + 1;
+        int monthCount = (int) from.until(to, ChronoUnit.MONTHS) + 1;
+        int currencyCount = Currency.values().length;
+        MoneyAccumulator[][] income = new MoneyAccumulator[monthCount][currencyCount];
+        MoneyAccumulator[][] outgoings = new MoneyAccumulator[monthCount][currencyCount];
+
+        for (PeriodStatusTotal total : monthlyRollupRepository.summarizeByPeriodAndStatus(
+                user, from.getYear() * 12 + from.getMonthValue(), to.getYear() * 12 + to.getMonthValue())) {
+            int month = (int) from.until(YearMonth.of(total.getYear(), total.getMonth()), ChronoUnit.MONTHS);
+            accumulator(total.getStatus() == Status.INCOME ? income : outgoings, month, total.getCurrency())
+                    .add(total.getTotalAmount());
+        }
+        for (Transaction occurrence : recurringOccurrenceExpander.expand(user, from.atDay(1), to.atEndOfMonth())) {
+            int month = (int) from.until(YearMonth.from(occurrence.getDate()), ChronoUnit.MONTHS);
+            accumulator(occurrence.getStatus() == Status.INCOME ? income : outgoings, month, occurrence.getCurrency())
+                    .add(occurrence.getAmount());
+        }
+
+        DatedRates rates = exchangeRateTable.datedRates();
+        List<TrendBucketDto> buckets = new ArrayList<>(bucketCount);
+        TrendBucketDto previous = null;
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            YearMonth bucketStart = firstBucket.plusMonths((long) bucket * granularity.months());
+            YearMonth bucketEnd = bucketStart.plusMonths(granularity.months() - 1);
+            MoneyAccumulator convertedIncome = new MoneyAccumulator();
+            MoneyAccumulator convertedOutgoings = new MoneyAccumulator();
+            for (YearMonth month = bucketStart.isBefore(from) ? from : bucketStart;
+                 !month.isAfter(bucketEnd) && !month.isAfter(to); month = month.plusMonths(1)) {
+                int index = (int) from.until(month, ChronoUnit.MONTHS);
+                convertedIncome.add(convert(income[index], target, rates, month.atEndOfMonth()));
+                convertedOutgoings.add(convert(outgoings[index], target, rates, month.atEndOfMonth()));
+            }
+            BigDecimal bucketIncome = convertedIncome.toBigDecimal();
+            BigDecimal bucketOutgoings = convertedOutgoings.toBigDecimal();
+            BigDecimal budget = bucketIncome.subtract(bucketOutgoings);
+            TrendBucketDto current = new TrendBucketDto(
+                    granularity.label(bucketStart),
+                    (bucketStart.isBefore(from) ? from : bucketStart).atDay(1),
+                    (bucketEnd.isAfter(to) ? to : bucketEnd).atEndOfMonth(),
+                    target,
+                    bucketIncome,
+                    bucketOutgoings,
+                    budget,
+                    previous != null ? bucketIncome.subtract(previous.totalIncome()) : null,
+                    previous != null ? bucketOutgoings.subtract(previous.totalOutgoings()) : null,
+                    previous != null ? budget.subtract(previous.totalBudget()) : null);
+            buckets.add(current);
+            previous = current;
+        }
+        return buckets;
+    }
+
+    /**
+     * Daily income, outgoings and running balance between two dates, and the running outgoings per category.
+     * The ledger is read grouped by currency and day, and each (currency, day) total is converted
+     * into the target currency once, at the rates of that day, before the running sums are taken.
+     * The opening balance is converted at the rates of the day before the series starts.
+     * @param currency Currency of the series, or null for the user's favorite currency
+     */
+    public BalanceSeriesResponse balanceSeries(AppUser user, LocalDate startDate, LocalDate endDate, Currency currency) {
+        Currency target = targetCurrency(currency);
+        LocalDate openingDate = startDate.minusDays(1);
+        DatedRates rates = exchangeRateTable.datedRates();
+        int dayCount = (int) startDate.until(endDate, ChronoUnit.DAYS) + 1;
+        MoneyAccumulator[] income = new MoneyAccumulator[dayCount];
+        MoneyAccumulator[] outgoings = new MoneyAccumulator[dayCount];
+        MoneyAccumulator balance = new MoneyAccumulator();
+
+        for (DailyCurrencyTotal total : transactionRepository.findDailyTotalsByCurrency(user.getUserId(), startDate, endDate)) {
+            LocalDate rateDate = total.getDate() != null ? total.getDate() : openingDate;
+            BigDecimal totalIncome = rates.convert(total.getIncome(), total.getCurrency(), target, rateDate);
+            BigDecimal totalOutgoings = rates.convert(total.getOutgoings(), total.getCurrency(), target, rateDate);
+            if (total.getDate() == null) {
+                balance.add(totalIncome).subtract(totalOutgoings);
+                continue;
+            }
+            int day = (int) startDate.until(total.getDate(), ChronoUnit.DAYS);
+            dayAccumulator(income, day).add(totalIncome);
+            dayAccumulator(outgoings, day).add(totalOutgoings);
+        }
+
+        List<DailyBalanceDto> balances = new ArrayList<>(dayCount);
+        for (int day = 0; day < dayCount; day++) {
+            BigDecimal dayIncome = income[day] != null ? income[day].toBigDecimal() : BigDecimal.ZERO;
+            BigDecimal dayOutgoings = outgoings[day] != null ? outgoings[day].toBigDecimal() : BigDecimal.ZERO;
+            balance.add(dayIncome).subtract(dayOutgoings);
+            balances.add(new DailyBalanceDto(startDate.plusDays(day), dayIncome, dayOutgoings, balance.toBigDecimal()));
+        }
+
+        Map<DayCategory, MoneyAccumulator> dailySpend = new LinkedHashMap<>();
+        for (CategoryCurrencySpend spend : transactionRepository.findDailySpendByCategory(user.getUserId(), startDate, endDate)) {
+            dailySpend.computeIfAbsent(new DayCategory(spend.getDate(), spend.getCategory()), key -> new MoneyAccumulator())
+                    .add(rates.convert(spend.getSpend(), spend.getCurrency(), target, spend.getDate()));
+        }
+        Map<Category, MoneyAccumulator> cumulativeSpend = new EnumMap<>(Category.class);
+        List<CategorySpendDto> categorySpend = new ArrayList<>(dailySpend.size());
+        dailySpend.forEach((key, spend) -> {
+            MoneyAccumulator cumulative = cumulativeSpend.computeIfAbsent(key.category(), category -> new MoneyAccumulator());
+            cumulative.add(spend);
+            categorySpend.add(new CategorySpendDto(key.date(), key.category(), spend.toBigDecimal(), cumulative.toBigDecimal()));
+        });
+
+        return new BalanceSeriesResponse(startDate, endDate, target, balances, categorySpend);
+    }
+
+    private MoneyAccumulator dayAccumulator(MoneyAccumulator[] totals, int day) {
+        if (totals[day] == null) {
+            totals[day] = new MoneyAccumulator();
+        }
+        return totals[day];
+    }
+
+    private int bucketIndex(YearMonth firstBucket, YearMonth month, TrendGranularity granularity) {
+        return (int) (firstBucket.until(month, ChronoUnit.MONTHS) / granularity.months());
+    }
+
+    private MoneyAccumulator accumulator(MoneyAccumulator[][] totals, int month, Currency currency) {
+        MoneyAccumulator accumulator = totals[month][currency.ordinal()];
+        if (accumulator == null) {
+            accumulator = new MoneyAccumulator();
+            totals[month][currency.ordinal()] = accumulator;
+        }
+        return accumulator;
+    }
+
+    private BigDecimal convert(MoneyAccumulator[] perCurrency, Currency target, DatedRates rates, LocalDate rateDate) {
+        MoneyAccumulator converted = new MoneyAccumulator();
+        for (Currency currency : Currency.values()) {
+            MoneyAccumulator total = perCurrency[currency.ordinal()];
+            if (total != null) {
+                converted.add(rates.convert(total.toBigDecimal(), currency, target, rateDate));
+            }
+        }
+        return converted.toBigDecimal();
+    }
+
+    private Currency targetCurrency(Currency requested) {
+        if (requested != null) {
+            return requested;
+        }
+        Currency favoriteCurrency = currentUserHolder.getFavoriteCurrency();
+        return favoriteCurrency != null ? favoriteCurrency : DEFAULT_CURRENCY;
+    }
+
+    private PeriodTotals computeMonth(AppUser user, int year, int month) {
+        LocalDate start = LocalDate.of(year, month, 1);
+        return collect(
+                monthlyRollupRepository.summarizeByCategoryAndStatus(user, year, month, month),
+                recurringOccurrenceExpander.expand(user, start, start.withDayOfMonth(start.lengthOfMonth())));
+    }
+
+    private PeriodTotals computeYear(AppUser user, int year) {
+        return collect(
+                monthlyRollupRepository.summarizeByCategoryAndStatus(user, year, 1, 12),
+                recurringOccurrenceExpander.expand(user, LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31)));
+    }
+
+    /**
+     * Folds the stored rollups and the generated occurrences of rule-based series into per-currency totals
+     */
+    private PeriodTotals collect(List<CategoryStatusTotal> totals, List<Transaction> ruleOccurrences) {
+        log.debug("Summarizing {} category/status/currency groups and {} rule occurrences", totals.size(), ruleOccurrences.size());
+
+        PeriodTotals periodTotals = new PeriodTotals();
+        for (CategoryStatusTotal total : totals) {
+            periodTotals.add(total.getCategory(), total.getStatus(), total.getCurrency(), total.getMonth(),
+                    total.getTransactionCount(), total.getTotalAmount());
+        }
+        for (Transaction occurrence : ruleOccurrences) {
+            periodTotals.add(occurrence.getCategory() != null ? occurrence.getCategory() : Category.OTHER,
+                    occurrence.getStatus(), occurrence.getCurrency(), occurrence.getDate().getMonthValue(), 1,
+                    occurrence.getAmount());
+        }
+        return periodTotals;
+    }
+
+    /**
+     * Converts each (category, status, currency, month) total into the target currency and adds them up
+     */
+    private SummaryDto toSummary(PeriodTotals periodTotals, int year, Currency target) {
+        DatedRates rates = exchangeRateTable.datedRates();
+        MoneyAccumulator totalIncome = new MoneyAccumulator();
+        MoneyAccumulator totalOutgoings = new MoneyAccumulator();
+        Map<Category, List<CategoryExpensesDto>> categories = new HashMap<>();
+
+        for (Map.Entry<Category, Map<Status, Map<Currency, PeriodTotals.GroupTotal>>> category : periodTotals.groups().entrySet()) {
+            List<CategoryExpensesDto> expenses = new ArrayList<>();
+            for (Map.Entry<Status, Map<Currency, PeriodTotals.GroupTotal>> status : category.getValue().entrySet()) {
+                long count = 0;
+                MoneyAccumulator amount = new MoneyAccumulator();
+                for (Map.Entry<Currency, PeriodTotals.GroupTotal> currency : status.getValue().entrySet()) {
+                    PeriodTotals.GroupTotal total = currency.getValue();
+                    count += total.count;
+                    for (int month = 1; month <= 12; month++) {
+                        MoneyAccumulator monthAmount = total.amountByMonth[month - 1];
+                        if (monthAmount != null) {
+                            amount.add(rates.convert(monthAmount.toBigDecimal(), currency.getKey(), target,
+                                    YearMonth.of(year, month).atEndOfMonth()));
+                        }
+                    }
+                }
+                (status.getKey() == Status.INCOME ? totalIncome : totalOutgoings).add(amount);
+                expenses.add(new CategoryExpensesDto(Math.toIntExact(count), amount.toBigDecimal(), status.getKey()));
+            }
+            categories.put(category.getKey(), expenses);
+        }
+
+        BigDecimal income = totalIncome.toBigDecimal();
+        BigDecimal outgoings = totalOutgoings.toBigDecimal();
+        return new SummaryDto(target, income, outgoings, income.subtract(outgoings), categories);
+    }
+
+    private record DayCategory(LocalDate date, Category category) {
+    }
+}
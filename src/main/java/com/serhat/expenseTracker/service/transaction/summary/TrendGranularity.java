@@ -0,0 +1,53 @@
+package com.serhat.expenseTracker.service.transaction.summary;
+
+import com.serhat.expenseTracker.exception.InvalidPeriodException;
+
+import java.time.YearMonth;
+
+/**
+ * Width of the buckets a trend is reported in
+ */
+public enum TrendGranularity {
+    MONTH(1),
+    QUARTER(3),
+    YEAR(12);
+
+    private final int months;
+
+    TrendGranularity(int months) {
+        this.months = months;
+    }
+
+    /**
+     * Parses a granularity case-insensitively, e.g. {@code month}, {@code quarter} or {@code year}
+     * @throws InvalidPeriodException If the value names no granularity
+     */
+    public static TrendGranularity of(String value) {
+        for (TrendGranularity granularity : values()) {
+            if (granularity.name().equalsIgnoreCase(value)) {
+                return granularity;
+            }
+        }
+        throw new InvalidPeriodException("Unknown trend granularity: " + value);
+    }
+
+    public int months() {
+        return months;
+    }
+
+    /**
+     * First month of the bucket containing the given month
+     */
+    public YearMonth bucketOf(YearMonth month) {
+        int offset = (month.getMonthValue() - 1) % months;
+        return month.minusMonths(offset);
+    }
+
+    public String label(YearMonth bucket) {
+        return switch (this) {
+            case MONTH -> bucket.toString();
+            case QUARTER -> bucket.getYear() + "-Q" + ((bucket.getMonthValue() - 1) / 3 + 1);
+            case YEAR -> String.valueOf(bucket.getYear());
+        };
+    }
+}
@@ -0,0 +1,43 @@
+package com.serhat.expenseTracker.service.user;
+
+import com.serhat.expenseTracker.entity.AppUser;
+import com.serhat.expenseTracker.entity.enums.Currency;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.List;
+
+/**
+ * Immutable principal of an authenticated request, holding what the request path needs of the user.
+ * The password is not kept, so it is only suitable once the token has been verified.
+ */
+public record AuthenticatedUser(
+        Long userId,
+        String username,
+        List<GrantedAuthority> authorities,
+        Currency favoriteCurrency
+) implements UserDetails {
+
+    public static AuthenticatedUser of(AppUser user) {
+        List<GrantedAuthority> authorities = user.getAuthorities().stream()
+                .<GrantedAuthority>map(authority -> new SimpleGrantedAuthority(authority.getAuthority()))
+                .toList();
+        return new AuthenticatedUser(user.getUserId(), user.getUsername(), authorities, user.getFavoriteCurrency());
+    }
+
+    @Override
+    public List<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+}
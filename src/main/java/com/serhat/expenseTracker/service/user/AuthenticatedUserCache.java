@@ -0,0 +1,59 @@
+package com.serhat.expenseTracker.service.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.serhat.expenseTracker.exception.UserNotFoundException;
+import com.serhat.expenseTracker.repository.UserRepository;
+import com.serhat.expenseTracker.service.cache.CacheEvictions;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Bounded cache of {@link AuthenticatedUser} principals by username, so authenticating a request
+ * does not query the users table. Writers to a user evict its entry on every node through {@link CacheEvictions}.
+ * Hit, miss and eviction counts are published as the {@code authenticated.users} cache metrics.
+ */
+@Component
+@Slf4j
+public class AuthenticatedUserCache {
+    private static final String CACHE_NAME = "authenticated.users";
+
+    private final UserRepository userRepository;
+    private final Cache<String, AuthenticatedUser> cache;
+    private final CacheEvictions cacheEvictions;
+
+    public AuthenticatedUserCache(UserRepository userRepository,
+                                  MeterRegistry meterRegistry,
+                                  CacheEvictions cacheEvictions,
+                                  @Value("${security.user-cache.maximum-size:10000}") long maximumSize,
+                                  @Value("${security.user-cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.cacheEvictions = cacheEvictions;
+        cacheEvictions.register(CACHE_NAME, cache::invalidate);
+    }
+
+    /**
+     * @throws UserNotFoundException if no user has the given username
+     */
+    public AuthenticatedUser get(String username) {
+        return cache.get(username, key -> userRepository.findByUsername(key)
+                .map(AuthenticatedUser::of)
+                .orElseThrow(() -> new UserNotFoundException("User not found with username: " + key)));
+    }
+
+    public void evict(String username) {
+        cacheEvictions.evict(CACHE_NAME, username, () -> cache.invalidate(username));
+        log.debug("Evicted cached principal of user: {}", username);
+    }
+}
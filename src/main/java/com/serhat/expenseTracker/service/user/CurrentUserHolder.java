@@ -1,42 +1,48 @@
 package com.serhat.expenseTracker.service.user;
 
 import com.serhat.expenseTracker.entity.AppUser;
+import com.serhat.expenseTracker.entity.enums.Currency;
 import com.serhat.expenseTracker.repository.UserRepository;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.Scope;
-import org.springframework.context.annotation.ScopedProxyMode;
+import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
-import org.springframework.web.context.WebApplicationContext;
 
+/**
+ * Resolves the user of the current request from the {@link AuthenticatedUser} principal set by the JWT filter.
+ * The user is returned as a reference by id, so it only costs a query when a service reads fields other than the id.
+ */
 @Component
-@Scope(value = WebApplicationContext.SCOPE_REQUEST, proxyMode = ScopedProxyMode.TARGET_CLASS)
+@RequiredArgsConstructor
 public class CurrentUserHolder {
     private final UserRepository userRepository;
-    private final AppUser currentUser;
+    private final AuthenticatedUserCache authenticatedUserCache;
 
-    @Autowired
-    public CurrentUserHolder(UserRepository userRepository) {
-        this.userRepository = userRepository;
-        this.currentUser = fetchCurrentUser();
+    public AppUser getCurrentUser() {
+        return userRepository.getReferenceById(getCurrentUserId());
     }
 
-    public AppUser getCurrentUser() {
-        if (currentUser == null) {
-            throw new UsernameNotFoundException("No authenticated user found");
-        }
-        return currentUser;
+    public Long getCurrentUserId() {
+        return getCurrentPrincipal().userId();
     }
 
-    private AppUser fetchCurrentUser() {
+    /**
+     * Favorite currency of the current user, read from the principal; null if none is set
+     */
+    public Currency getFavoriteCurrency() {
+        return getCurrentPrincipal().favoriteCurrency();
+    }
+
+    public AuthenticatedUser getCurrentPrincipal() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof AuthenticatedUser authenticatedUser) {
+            return authenticatedUser;
+        }
         if (auth != null && auth.getPrincipal() instanceof UserDetails userDetails) {
-            return userRepository.findByUsername(userDetails.getUsername())
-                    .orElseThrow(() -> new UsernameNotFoundException("User not found: " + userDetails.getUsername()));
+            return authenticatedUserCache.get(userDetails.getUsername());
         }
-        return null;
+        throw new UsernameNotFoundException("No authenticated user found");
     }
 }
@@ -14,6 +14,7 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
     private final UserRepository userRepository;
+    private final AuthenticatedUserCache authenticatedUserCache;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
@@ -22,4 +23,11 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
       return new org.springframework.security.core.userdetails.User(user.getUsername(),user.getPassword(),user.getAuthorities());
     }
+
+    /**
+     * Principal of a request whose token has already been verified, served from the {@link AuthenticatedUserCache}
+     */
+    public AuthenticatedUser loadAuthenticatedUser(String username) {
+        return authenticatedUserCache.get(username);
+    }
 }
@@ -1,13 +1,12 @@
 package com.serhat.expenseTracker.service.user;
 
+import com.serhat.expenseTracker.dto.objects.SummaryDto;
 import com.serhat.expenseTracker.dto.requests.RegisterRequest;
 import com.serhat.expenseTracker.entity.AppUser;
-import com.serhat.expenseTracker.entity.Transaction;
 import com.serhat.expenseTracker.entity.enums.Currency;
-import com.serhat.expenseTracker.entity.enums.Status;
 import com.serhat.expenseTracker.mapper.UserMapper;
-import com.serhat.expenseTracker.repository.TransactionRepository;
 import com.serhat.expenseTracker.repository.UserRepository;
+import com.serhat.expenseTracker.service.transaction.summary.SummaryEngine;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,8 +14,6 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
-import java.time.LocalDate;
-import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -27,8 +24,9 @@ public class UserServiceImpl implements UserService {
     private final UserValidationService userValidationService;
     private final UserMapper userMapper;
     private final UserDetailsServiceImpl userDetailsService;
-    private final TransactionRepository transactionRepository;
+    private final SummaryEngine summaryEngine;
     private final CurrentUserHolder currentUserHolder;
+    private final AuthenticatedUserCache authenticatedUserCache;
 
     @Override
     public AppUser getCurrentUser() {
@@ -41,90 +39,53 @@ public class UserServiceImpl implements UserService {
         AppUser user = currentUserHolder.getCurrentUser();
         user.setFavoriteCurrency(currency);
         userRepository.save(user);
+        authenticatedUserCache.evict(user.getUsername());
         return currency;
     }
 
-    private List<Transaction> getTransactionsBetweenDates(LocalDate startDate, LocalDate endDate) {
-        return transactionRepository.findByUserAndDateBetween(
-                currentUserHolder.getCurrentUser(), startDate, endDate);
-    }
-
-    private BigDecimal calculateAmountByStatus(List<Transaction> transactions, boolean isIncome) {
-        return transactions.stream()
-                .filter(t -> isIncome == (t.getStatus() == Status.INCOME))
-                .map(Transaction::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-    }
-
-    private DateRange getMonthDateRange(int year, int month) {
-        LocalDate startDate = LocalDate.of(year, month, 1);
-        LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
-        return new DateRange(startDate, endDate);
-    }
-
-    private DateRange getYearDateRange(int year) {
-        LocalDate startDate = LocalDate.of(year, 1, 1);
-        LocalDate endDate = LocalDate.of(year, 12, 31);
-        return new DateRange(startDate, endDate);
-    }
-
     @Override
     public BigDecimal getBudgetStatusByYearAndMonth(int year, int month) {
-        DateRange range = getMonthDateRange(year, month);
-        return calculateBudget(range.startDate(), range.endDate());
+        return monthSummary(year, month).totalBudget();
     }
 
     @Override
     public BigDecimal getIncomeByYearAndMonth(int year, int month) {
-        DateRange range = getMonthDateRange(year, month);
-        return getIncomeBetweenDates(range.startDate(), range.endDate());
+        return monthSummary(year, month).totalIncome();
     }
 
     @Override
     public BigDecimal getOutgoingsByYearAndMonth(int year, int month) {
-        DateRange range = getMonthDateRange(year, month);
-        return getOutgoingsBetweenDates(range.startDate(), range.endDate());
+        return monthSummary(year, month).totalOutgoings();
     }
 
     @Override
     public BigDecimal getAnnualIncome(int year) {
-        DateRange range = getYearDateRange(year);
-        return getIncomeBetweenDates(range.startDate(), range.endDate());
+        return annualSummary(year).totalIncome();
     }
 
     @Override
     public BigDecimal getAnnualOutgoings(int year) {
-        DateRange range = getYearDateRange(year);
-        return getOutgoingsBetweenDates(range.startDate(), range.endDate());
+        return annualSummary(year).totalOutgoings();
     }
 
     @Override
     public BigDecimal getAnnualBudget(int year) {
-        DateRange range = getYearDateRange(year);
-        return calculateBudget(range.startDate(), range.endDate());
+        return annualSummary(year).totalBudget();
     }
 
-    private BigDecimal getIncomeBetweenDates(LocalDate startDate, LocalDate endDate) {
-        List<Transaction> transactions = getTransactionsBetweenDates(startDate, endDate);
-        return calculateAmountByStatus(transactions, true);
+    private SummaryDto monthSummary(int year, int month) {
+        return summaryEngine.summarizeMonth(currentUserHolder.getCurrentUser(), year, month, null);
     }
 
-    private BigDecimal getOutgoingsBetweenDates(LocalDate startDate, LocalDate endDate) {
-        List<Transaction> transactions = getTransactionsBetweenDates(startDate, endDate);
-        return calculateAmountByStatus(transactions, false);
-    }
-
-    private BigDecimal calculateBudget(LocalDate startDate, LocalDate endDate) {
-        List<Transaction> transactions = getTransactionsBetweenDates(startDate, endDate);
-        BigDecimal income = calculateAmountByStatus(transactions, true);
-        BigDecimal outgoings = calculateAmountByStatus(transactions, false);
-        return income.subtract(outgoings);
+    private SummaryDto annualSummary(int year) {
+        return summaryEngine.summarizeYear(currentUserHolder.getCurrentUser(), year, null);
     }
 
     @Override
     public void saveUser(AppUser user) {
         logger.info("Saving user: {}", user.getUsername());
         userRepository.save(user);
+        authenticatedUserCache.evict(user.getUsername());
     }
 
     @Override
@@ -146,6 +107,4 @@ public class UserServiceImpl implements UserService {
         return userDetailsService.loadUserByUsername(username);
     }
 
-
-    private record DateRange(LocalDate startDate, LocalDate endDate) {}
 }
\ No newline at end of file
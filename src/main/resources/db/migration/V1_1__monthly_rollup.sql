@@ -0,0 +1,29 @@
+-- Per-user monthly totals by category, status and currency, maintained alongside transaction writes.
+-- Kept out of V1 so databases baselined at V1 still receive it.
+
+CREATE TABLE monthly_rollup (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id           BIGINT         NOT NULL REFERENCES users (user_id),
+    period_year       INTEGER        NOT NULL,
+    period_month      INTEGER        NOT NULL,
+    category          VARCHAR(255)   NOT NULL,
+    status            VARCHAR(255)   NOT NULL,
+    currency          VARCHAR(255)   NOT NULL,
+    transaction_count BIGINT         NOT NULL,
+    total_amount      NUMERIC(38, 2) NOT NULL,
+    CONSTRAINT uk_monthly_rollup_period UNIQUE (user_id, period_year, period_month, category, status, currency)
+);
+
+-- Seed the rollups from the transactions that already exist, as MonthlyRollupService.rebuild does.
+INSERT INTO monthly_rollup (user_id, period_year, period_month, category, status, currency,
+                            transaction_count, total_amount)
+SELECT t.user_id,
+       CAST(EXTRACT(YEAR FROM t.date) AS INTEGER),
+       CAST(EXTRACT(MONTH FROM t.date) AS INTEGER),
+       COALESCE(t.category, 'OTHER'),
+       t.status,
+       t.currency,
+       COUNT(*),
+       COALESCE(SUM(t.amount), 0)
+FROM transaction t
+GROUP BY 1, 2, 3, 4, 5, 6;
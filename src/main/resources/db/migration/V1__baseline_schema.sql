@@ -0,0 +1,61 @@
+-- Schema as previously generated by Hibernate (ddl-auto: update).
+-- Existing databases are baselined at this version and skip this script.
+
+CREATE TABLE users (
+    user_id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username          VARCHAR(255),
+    password          VARCHAR(255),
+    email             VARCHAR(255),
+    favorite_currency SMALLINT,
+    membership_plan   VARCHAR(255),
+    role              VARCHAR(255)
+);
+
+CREATE TABLE transaction (
+    transaction_id      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    amount              NUMERIC(38, 2),
+    date                DATE         NOT NULL,
+    category            VARCHAR(255),
+    status              VARCHAR(255) NOT NULL,
+    description         VARCHAR(255),
+    currency            VARCHAR(255) NOT NULL,
+    updated_at          DATE,
+    type                VARCHAR(255) NOT NULL,
+    day_of_month        INTEGER,
+    start_month         INTEGER,
+    start_year          INTEGER,
+    end_month           INTEGER,
+    end_year            INTEGER,
+    recurring_series_id VARCHAR(255),
+    user_id             BIGINT       NOT NULL REFERENCES users (user_id)
+);
+
+CREATE TABLE token (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username     VARCHAR(255),
+    token        VARCHAR(255),
+    created_at   TIMESTAMP(6),
+    expires_at   TIMESTAMP(6),
+    token_status VARCHAR(255),
+    expired_at   TIMESTAMP(6)
+);
+
+CREATE TABLE savings (
+    id       BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    currency VARCHAR(255)   NOT NULL,
+    amount   NUMERIC(38, 2) NOT NULL,
+    user_id  BIGINT         NOT NULL REFERENCES users (user_id)
+);
+
+CREATE TABLE saving_goals (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    goal_amount    NUMERIC(38, 2) NOT NULL,
+    currency       VARCHAR(255)   NOT NULL,
+    initial_amount NUMERIC(38, 2),
+    description    VARCHAR(255),
+    goal_name      VARCHAR(255),
+    start_date     DATE,
+    target_date    DATE,
+    goal_status    VARCHAR(255)   NOT NULL,
+    user_id        BIGINT         NOT NULL REFERENCES users (user_id)
+);
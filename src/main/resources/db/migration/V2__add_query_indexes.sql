@@ -0,0 +1,22 @@
+-- Indexes backing the derived queries of TransactionRepository, TokenRepository and UserRepository.
+
+-- findByUserAndDateBetween, the /filter specifications and their (date, transaction_id) keyset order
+CREATE INDEX IF NOT EXISTS idx_transaction_user_date_id ON transaction (user_id, date, transaction_id);
+
+-- findByUserAndType
+CREATE INDEX IF NOT EXISTS idx_transaction_user_type ON transaction (user_id, type);
+
+-- findByRecurringSeriesId, deleteByRecurringSeriesId
+CREATE INDEX IF NOT EXISTS idx_transaction_recurring_series ON transaction (recurring_series_id);
+
+-- TokenRepository.findByToken, findByUsername
+CREATE INDEX IF NOT EXISTS idx_token_token ON token (token);
+CREATE INDEX IF NOT EXISTS idx_token_username ON token (username);
+
+-- UserRepository.findByUsername, findByEmail, findByEmailOrUsername
+CREATE UNIQUE INDEX IF NOT EXISTS uk_users_username ON users (username);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_users_email ON users (email);
+
+-- SavingsRepository / SavingGoalRepository findByUser
+CREATE INDEX IF NOT EXISTS idx_savings_user ON savings (user_id);
+CREATE INDEX IF NOT EXISTS idx_saving_goals_user ON saving_goals (user_id);
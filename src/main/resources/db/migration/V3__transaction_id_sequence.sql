@@ -0,0 +1,8 @@
+-- IDENTITY columns disable Hibernate insert batching; transaction ids now come from a pooled sequence.
+-- The increment must match allocationSize of the transaction_seq generator.
+
+ALTER TABLE transaction ALTER COLUMN transaction_id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS transaction_seq INCREMENT BY 50;
+
+SELECT setval('transaction_seq', COALESCE((SELECT MAX(transaction_id) FROM transaction), 0) + 50, false);
@@ -0,0 +1,36 @@
+-- Recurring series stored once as a rule, expanded into occurrences at read time.
+
+CREATE TABLE recurring_series (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    series_key   VARCHAR(255)   NOT NULL,
+    user_id      BIGINT         NOT NULL REFERENCES users (user_id),
+    storage_mode VARCHAR(255)   NOT NULL,
+    amount       NUMERIC(38, 2),
+    description  VARCHAR(255),
+    category     VARCHAR(255),
+    status       VARCHAR(255)   NOT NULL,
+    currency     VARCHAR(255)   NOT NULL,
+    day_of_month INTEGER        NOT NULL,
+    start_month  INTEGER        NOT NULL,
+    start_year   INTEGER        NOT NULL,
+    end_month    INTEGER        NOT NULL,
+    end_year     INTEGER        NOT NULL,
+    updated_at   DATE,
+    CONSTRAINT uk_recurring_series_key UNIQUE (series_key)
+);
+
+CREATE INDEX idx_recurring_series_user_mode ON recurring_series (user_id, storage_mode);
+
+CREATE TABLE recurring_occurrence_override (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    series_id        BIGINT       NOT NULL REFERENCES recurring_series (id) ON DELETE CASCADE,
+    occurrence_index INTEGER      NOT NULL,
+    date             DATE,
+    amount           NUMERIC(38, 2),
+    description      VARCHAR(255),
+    category         VARCHAR(255),
+    status           VARCHAR(255),
+    currency         VARCHAR(255),
+    skipped          BOOLEAN      NOT NULL DEFAULT FALSE,
+    CONSTRAINT uk_recurring_occurrence_override UNIQUE (series_id, occurrence_index)
+);
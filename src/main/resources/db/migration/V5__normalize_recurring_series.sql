@@ -0,0 +1,68 @@
+-- Every recurring series gets a recurring_series row; materialized occurrences reference it
+-- instead of repeating the schedule on each transaction row.
+
+ALTER TABLE recurring_series
+    ADD COLUMN occurrence_count     INTEGER        NOT NULL DEFAULT 0,
+    ADD COLUMN next_occurrence_date DATE,
+    ADD COLUMN total_amount         NUMERIC(38, 2) NOT NULL DEFAULT 0,
+    ADD COLUMN first_transaction_id BIGINT;
+
+INSERT INTO recurring_series (series_key, user_id, storage_mode, amount, description, category, status, currency,
+                              day_of_month, start_month, start_year, end_month, end_year, updated_at)
+SELECT DISTINCT ON (t.recurring_series_id)
+       t.recurring_series_id,
+       t.user_id,
+       'MATERIALIZED',
+       t.amount,
+       t.description,
+       t.category,
+       t.status,
+       t.currency,
+       COALESCE(t.day_of_month, CAST(EXTRACT(DAY FROM t.date) AS INTEGER)),
+       COALESCE(t.start_month, CAST(EXTRACT(MONTH FROM t.date) AS INTEGER)),
+       COALESCE(t.start_year, CAST(EXTRACT(YEAR FROM t.date) AS INTEGER)),
+       COALESCE(t.end_month, CAST(EXTRACT(MONTH FROM t.date) AS INTEGER)),
+       COALESCE(t.end_year, CAST(EXTRACT(YEAR FROM t.date) AS INTEGER)),
+       t.updated_at
+FROM transaction t
+WHERE t.recurring_series_id IS NOT NULL
+ORDER BY t.recurring_series_id, t.date, t.transaction_id;
+
+ALTER TABLE transaction ADD COLUMN series_id BIGINT REFERENCES recurring_series (id);
+
+UPDATE transaction t
+SET series_id = s.id
+FROM recurring_series s
+WHERE s.series_key = t.recurring_series_id;
+
+UPDATE recurring_series s
+SET occurrence_count     = stats.occurrence_count,
+    total_amount         = stats.total_amount,
+    next_occurrence_date = stats.next_occurrence_date,
+    first_transaction_id = stats.first_transaction_id
+FROM (SELECT t.series_id,
+             COUNT(*)                                    AS occurrence_count,
+             COALESCE(SUM(t.amount), 0)                  AS total_amount,
+             MIN(t.date) FILTER (WHERE t.date >= CURRENT_DATE) AS next_occurrence_date,
+             MIN(t.transaction_id)                       AS first_transaction_id
+      FROM transaction t
+      WHERE t.series_id IS NOT NULL
+      GROUP BY t.series_id) stats
+WHERE s.id = stats.series_id;
+
+DROP INDEX IF EXISTS idx_transaction_recurring_series;
+CREATE INDEX idx_transaction_series ON transaction (series_id);
+CREATE INDEX idx_recurring_series_user ON recurring_series (user_id);
+
+ALTER TABLE transaction
+    DROP COLUMN day_of_month,
+    DROP COLUMN start_month,
+    DROP COLUMN start_year,
+    DROP COLUMN end_month,
+    DROP COLUMN end_year,
+    DROP COLUMN recurring_series_id;
+
+UPDATE recurring_series
+SET occurrence_count = (end_year * 12 + end_month) - (start_year * 12 + start_month) + 1,
+    total_amount     = COALESCE(amount, 0) * ((end_year * 12 + end_month) - (start_year * 12 + start_month) + 1)
+WHERE storage_mode = 'RULE';
@@ -0,0 +1,9 @@
+-- Daily exchange rates of every currency per one EUR, for converting transactions at the rate of their own date.
+
+CREATE TABLE exchange_rate (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    rate_date     DATE            NOT NULL,
+    currency      VARCHAR(255)    NOT NULL,
+    rate_per_euro NUMERIC(24, 10) NOT NULL,
+    CONSTRAINT uk_exchange_rate_day UNIQUE (rate_date, currency)
+);
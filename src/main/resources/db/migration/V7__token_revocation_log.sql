@@ -0,0 +1,12 @@
+-- Tokens revoked by a logout, polled by every node so a logout is honored cluster-wide.
+-- Rows are deleted once the token has expired.
+
+CREATE TABLE token_revocation (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    token_hash CHAR(64)  NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_token_revocation_revoked_at ON token_revocation (revoked_at);
+CREATE INDEX idx_token_revocation_expires_at ON token_revocation (expires_at);
@@ -0,0 +1,12 @@
+-- Cache evictions broadcast between nodes: every node appends the keys it evicts
+-- and polls the rows of the other nodes. Rows are deleted after a short retention.
+
+CREATE TABLE cache_eviction (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    node_id    CHAR(36)     NOT NULL,
+    cache_name VARCHAR(64)  NOT NULL,
+    cache_key  VARCHAR(255) NOT NULL,
+    evicted_at TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_cache_eviction_evicted_at ON cache_eviction (evicted_at);
@@ -0,0 +1,100 @@
+package com.serhat.expenseTracker.jwt;
+
+import com.serhat.expenseTracker.entity.Token;
+import com.serhat.expenseTracker.entity.enums.TokenStatus;
+import com.serhat.expenseTracker.repository.TokenRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of authenticating a JWT: the previous pipeline rebuilt the key and parser and verified the
+ * signature once each for the username, expiry and role; the current one verifies once with the shared
+ * {@link JwtExtractor} and reads the token status from {@link TokenStatusCache}.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=JwtAuthenticationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationBenchmark {
+    private static final String SECRET = "benchmark-secret-key-of-at-least-256-bits-length";
+
+    private String token;
+    private JwtExtractor jwtExtractor;
+    private TokenStatusCache tokenStatusCache;
+
+    @Setup
+    public void setUp() {
+        Date expiresAt = new Date(System.currentTimeMillis() + Duration.ofHours(1).toMillis());
+        token = Jwts.builder()
+                .setSubject("benchmark")
+                .claim("role", "USER")
+                .setIssuedAt(new Date())
+                .setExpiration(expiresAt)
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+        Token stored = Token.builder()
+                .token(token)
+                .username("benchmark")
+                .expiresAt(expiresAt)
+                .tokenStatus(TokenStatus.ACTIVE)
+                .build();
+
+        jwtExtractor = new JwtExtractor(SECRET);
+        tokenStatusCache = new TokenStatusCache(repositoryReturning(stored), new SimpleMeterRegistry(), 1000, Duration.ofMinutes(15));
+        tokenStatusCache.put(stored);
+    }
+
+    @Benchmark
+    public void parsePerClaim(Blackhole blackhole) {
+        blackhole.consume(claimsRebuildingParser().getSubject());
+        blackhole.consume(claimsRebuildingParser().getExpiration());
+        blackhole.consume(claimsRebuildingParser().get("role", String.class));
+    }
+
+    @Benchmark
+    public void parseOnceWithCachedStatus(Blackhole blackhole) {
+        Claims claims = jwtExtractor.parseClaims(token);
+        blackhole.consume(jwtExtractor.extractUsername(claims));
+        blackhole.consume(jwtExtractor.extractExpiration(claims));
+        blackhole.consume(jwtExtractor.extractRole(claims));
+        blackhole.consume(tokenStatusCache.getStatus(token));
+    }
+
+    private Claims claimsRebuildingParser() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    private static TokenRepository repositoryReturning(Token stored) {
+        return (TokenRepository) Proxy.newProxyInstance(TokenRepository.class.getClassLoader(),
+                new Class<?>[]{TokenRepository.class},
+                (proxy, method, args) -> method.getName().equals("findByToken") ? Optional.of(stored) : null);
+    }
+}
@@ -0,0 +1,97 @@
+package com.serhat.expenseTracker.service.currency;
+
+import com.serhat.expenseTracker.dto.requests.CurrencyConversionRequest;
+import com.serhat.expenseTracker.dto.responses.BatchConversionResponse;
+import com.serhat.expenseTracker.entity.enums.Currency;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of a batch of conversions through {@link CurrencyConversionService#convertBatch}, against the same
+ * conversions answered one by one, with rates served from an in-memory {@link ExchangeRateTable}.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=CurrencyConversionBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CurrencyConversionBenchmark {
+    private static final Map<String, Double> RATES_PER_EURO = Map.of(
+            "EUR", 1.0, "USD", 1.08, "TRY", 35.2, "GBP", 0.84, "XAU", 0.00041, "XAG", 0.034, "JPY", 162.3, "CHF", 0.95);
+
+    @Param("10000")
+    private int size;
+
+    private CurrencyConversionService currencyConversionService;
+    private List<CurrencyConversionRequest> conversions;
+
+    @Setup
+    public void setUp() {
+        ExchangeRateTable exchangeRateTable = new ExchangeRateTable(
+                () -> RATES_PER_EURO, new InMemoryHistory(), Runnable::run, Duration.ofDays(1));
+        exchangeRateTable.refresh();
+        currencyConversionService = new CurrencyConversionService(exchangeRateTable, new SimpleMeterRegistry());
+
+        SplittableRandom random = new SplittableRandom(42);
+        String[] codes = RATES_PER_EURO.keySet().toArray(String[]::new);
+        conversions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            conversions.add(new CurrencyConversionRequest(codes[random.nextInt(codes.length)],
+                    codes[random.nextInt(codes.length)], random.nextDouble(1, 10_000), null));
+        }
+    }
+
+    @Benchmark
+    public BatchConversionResponse convertBatch() {
+        return currencyConversionService.convertBatch(conversions);
+    }
+
+    @Benchmark
+    public double[] convertOneByOne() {
+        double[] converted = new double[size];
+        for (int i = 0; i < size; i++) {
+            CurrencyConversionRequest conversion = conversions.get(i);
+            converted[i] = currencyConversionService.convertCurrency(conversion.from(), conversion.to(), conversion.amount());
+        }
+        return converted;
+    }
+
+    /**
+     * History that keeps nothing, so the table can be refreshed without a database
+     */
+    private static final class InMemoryHistory extends ExchangeRateHistory {
+        InMemoryHistory() {
+            super(null, null);
+        }
+
+        @Override
+        public void record(LocalDate date, Map<Currency, BigDecimal> rates) {
+        }
+
+        @Override
+        public HistoricalRates loadAll() {
+            return HistoricalRates.of(List.of());
+        }
+    }
+}
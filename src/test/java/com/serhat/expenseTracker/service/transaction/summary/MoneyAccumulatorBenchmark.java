@@ -0,0 +1,108 @@
+package com.serhat.expenseTracker.service.transaction.summary;
+
+import com.serhat.expenseTracker.dto.objects.CategoryExpensesDto;
+import com.serhat.expenseTracker.entity.Transaction;
+import com.serhat.expenseTracker.entity.enums.Category;
+import com.serhat.expenseTracker.entity.enums.Status;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Groups rows by category and status and totals them, with the stream/{@code BigDecimal} reduction the
+ * summaries used before {@link MoneyAccumulator}, and with the accumulator.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=MoneyAccumulatorBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class MoneyAccumulatorBenchmark {
+
+    @Param("1000000")
+    private int rows;
+
+    private List<Transaction> transactions;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        Category[] categories = Category.values();
+        Status[] statuses = Status.values();
+        transactions = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            transactions.add(Transaction.builder()
+                    .amount(BigDecimal.valueOf(random.nextLong(1, 1_000_000), MoneyAccumulator.SCALE))
+                    .category(categories[random.nextInt(categories.length)])
+                    .status(statuses[random.nextInt(statuses.length)])
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public Map<Category, List<CategoryExpensesDto>> bigDecimalStream() {
+        return transactions.stream()
+                .collect(Collectors.groupingBy(
+                        Transaction::getCategory,
+                        Collectors.mapping(
+                                t -> new CategoryExpensesDto(1, t.getAmount(), t.getStatus()),
+                                Collectors.collectingAndThen(
+                                        Collectors.groupingBy(CategoryExpensesDto::status),
+                                        statusMap -> statusMap.entrySet().stream()
+                                                .map(entry -> new CategoryExpensesDto(
+                                                        entry.getValue().size(),
+                                                        entry.getValue().stream()
+                                                                .map(CategoryExpensesDto::totalAmount)
+                                                                .reduce(BigDecimal.ZERO, BigDecimal::add),
+                                                        entry.getKey()))
+                                                .toList()))));
+    }
+
+    @Benchmark
+    public Map<Category, List<CategoryExpensesDto>> moneyAccumulator() {
+        int statusCount = Status.values().length;
+        Map<Category, MoneyAccumulator[]> totals = new EnumMap<>(Category.class);
+        Map<Category, int[]> counts = new EnumMap<>(Category.class);
+        for (Transaction transaction : transactions) {
+            int status = transaction.getStatus().ordinal();
+            MoneyAccumulator[] amounts = totals.computeIfAbsent(transaction.getCategory(), key -> new MoneyAccumulator[statusCount]);
+            if (amounts[status] == null) {
+                amounts[status] = new MoneyAccumulator();
+            }
+            amounts[status].add(transaction.getAmount());
+            counts.computeIfAbsent(transaction.getCategory(), key -> new int[statusCount])[status]++;
+        }
+
+        Map<Category, List<CategoryExpensesDto>> grouped = new EnumMap<>(Category.class);
+        totals.forEach((category, amounts) -> {
+            List<CategoryExpensesDto> expenses = new ArrayList<>(statusCount);
+            for (Status status : Status.values()) {
+                if (amounts[status.ordinal()] != null) {
+                    expenses.add(new CategoryExpensesDto(counts.get(category)[status.ordinal()],
+                            amounts[status.ordinal()].toBigDecimal(), status));
+                }
+            }
+            grouped.put(category, expenses);
+        });
+        return grouped;
+    }
+}
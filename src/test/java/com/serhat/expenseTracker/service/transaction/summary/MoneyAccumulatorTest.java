@@ -0,0 +1,122 @@
+package com.serhat.expenseTracker.service.transaction.summary;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MoneyAccumulatorTest {
+
+    @Test
+    void addsCentAmountsExactly() {
+        MoneyAccumulator accumulator = new MoneyAccumulator()
+                .add(new BigDecimal("0.10"))
+                .add(new BigDecimal("0.20"))
+                .add(new BigDecimal("19.99"));
+
+        assertThat(accumulator.toBigDecimal()).isEqualByComparingTo("20.29");
+    }
+
+    @Test
+    void spillsIntoBigDecimalWhenMinorUnitsOverflow() {
+        MoneyAccumulator accumulator = new MoneyAccumulator()
+                .addMinorUnits(Long.MAX_VALUE)
+                .addMinorUnits(1)
+                .addMinorUnits(Long.MAX_VALUE);
+
+        BigDecimal expected = BigDecimal.valueOf(Long.MAX_VALUE, 2)
+                .add(new BigDecimal("0.01"))
+                .add(BigDecimal.valueOf(Long.MAX_VALUE, 2));
+        assertThat(accumulator.toBigDecimal()).isEqualByComparingTo(expected);
+    }
+
+    @Test
+    void spillsIntoBigDecimalWhenNegativeMinorUnitsOverflow() {
+        MoneyAccumulator accumulator = new MoneyAccumulator()
+                .addMinorUnits(Long.MIN_VALUE)
+                .addMinorUnits(-1);
+
+        assertThat(accumulator.toBigDecimal())
+                .isEqualByComparingTo(BigDecimal.valueOf(Long.MIN_VALUE, 2).subtract(new BigDecimal("0.01")));
+    }
+
+    @Test
+    void sumsLargestFittingAmountsPastLongRange() {
+        BigDecimal largest = new BigDecimal("9999999999999999.99");
+        MoneyAccumulator accumulator = new MoneyAccumulator();
+        BigDecimal expected = BigDecimal.ZERO;
+        for (int i = 0; i < 2_000; i++) {
+            accumulator.add(largest);
+            expected = expected.add(largest);
+        }
+
+        assertThat(accumulator.toBigDecimal()).isEqualByComparingTo(expected);
+    }
+
+    @Test
+    void keepsAmountsWithMoreDecimalsOrIntegerDigitsExact() {
+        MoneyAccumulator accumulator = new MoneyAccumulator()
+                .add(new BigDecimal("0.005"))
+                .add(new BigDecimal("1.1"))
+                .add(new BigDecimal("2"))
+                .add(new BigDecimal("0.0001"))
+                .add(new BigDecimal("12345678901234567.5"));
+
+        assertThat(accumulator.toBigDecimal()).isEqualByComparingTo("12345678901234570.6051");
+    }
+
+    @Test
+    void subtractsBackThroughZero() {
+        MoneyAccumulator accumulator = new MoneyAccumulator()
+                .add(new BigDecimal("10.00"))
+                .subtract(new BigDecimal("25.50"));
+        assertThat(accumulator.toBigDecimal()).isEqualByComparingTo("-15.50");
+        assertThat(accumulator.isZero()).isFalse();
+
+        accumulator.add(new BigDecimal("15.5"));
+        assertThat(accumulator.toBigDecimal()).isEqualByComparingTo("0");
+        assertThat(accumulator.isZero()).isTrue();
+    }
+
+    @Test
+    void subtractsSpilledAmountsBackToZero() {
+        MoneyAccumulator accumulator = new MoneyAccumulator()
+                .add(new BigDecimal("0.001"))
+                .add(new BigDecimal("3.25"))
+                .subtract(new BigDecimal("0.001"))
+                .subtract(new BigDecimal("3.25"));
+
+        assertThat(accumulator.isZero()).isTrue();
+        assertThat(accumulator.toBigDecimal()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    void mergesAccumulatorsIncludingSpill() {
+        MoneyAccumulator first = new MoneyAccumulator()
+                .addMinorUnits(Long.MAX_VALUE)
+                .add(new BigDecimal("0.125"));
+        MoneyAccumulator second = new MoneyAccumulator()
+                .addMinorUnits(1)
+                .subtract(new BigDecimal("1.005"));
+
+        first.add(second);
+
+        BigDecimal expected = BigDecimal.valueOf(Long.MAX_VALUE, 2)
+                .add(new BigDecimal("0.125"))
+                .add(new BigDecimal("0.01"))
+                .subtract(new BigDecimal("1.005"));
+        assertThat(first.toBigDecimal()).isEqualByComparingTo(expected);
+    }
+
+    @Test
+    void ignoresNullAndZeroAmounts() {
+        MoneyAccumulator accumulator = new MoneyAccumulator()
+                .add((BigDecimal) null)
+                .subtract(null)
+                .add(BigDecimal.ZERO);
+
+        assertThat(accumulator.isZero()).isTrue();
+        assertThat(accumulator.toBigDecimal()).isEqualByComparingTo("0");
+    }
+}